@@ -1,6 +1,7 @@
 package ch.njol.skript;
 
 import ch.njol.skript.config.Config;
+import ch.njol.skript.config.EntryNode;
 import ch.njol.skript.config.Node;
 import ch.njol.skript.config.SectionNode;
 import ch.njol.skript.config.SimpleNode;
@@ -9,11 +10,13 @@ import ch.njol.skript.lang.Section;
 import ch.njol.skript.lang.SkriptParser;
 import ch.njol.skript.lang.Statement;
 import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.lang.function.Functions;
 import ch.njol.skript.lang.parser.ParserInstance;
 import ch.njol.skript.log.CountingLogHandler;
 import ch.njol.skript.log.LogEntry;
 import ch.njol.skript.log.RetainingLogHandler;
 import ch.njol.skript.log.SkriptLogger;
+import ch.njol.skript.structures.StructFunction;
 import ch.njol.skript.structures.StructOptions.OptionsData;
 import ch.njol.skript.test.runner.TestMode;
 import ch.njol.skript.util.ExceptionUtils;
@@ -28,6 +31,7 @@ import org.bukkit.Bukkit;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.skriptlang.skript.lang.script.Script;
+import org.skriptlang.skript.lang.script.ScriptData;
 import org.skriptlang.skript.lang.script.ScriptWarning;
 import org.skriptlang.skript.lang.structure.Structure;
 import org.skriptlang.skript.util.event.EventRegistry;
@@ -41,6 +45,8 @@ import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -453,39 +459,59 @@ public class ScriptLoader {
 	 *  and closed after the {@link Structure#postLoad()} stage.
 	 * @return Info on the loaded scripts.
 	 */
-	@SuppressWarnings("removal")
 	private static CompletableFuture<ScriptInfo> loadScripts(List<Config> configs, OpenCloseable openCloseable) {
 		if (configs.isEmpty()) // Nothing to load
 			return CompletableFuture.completedFuture(new ScriptInfo());
 
+		callPreInitEvents(configs);
+		return loadPreInitializedScripts(configs, openCloseable);
+	}
+
+	/**
+	 * Calls the events that must precede the loading of the provided configs.
+	 * @param configs Configs representing scripts.
+	 */
+	@SuppressWarnings("removal")
+	private static void callPreInitEvents(List<Config> configs) {
 		eventRegistry().events(ScriptPreInitEvent.class)
 				.forEach(event -> event.onPreInit(configs));
 		//noinspection deprecation - we still need to call it
 		Bukkit.getPluginManager().callEvent(new PreScriptLoadEvent(configs));
+	}
 
-		ScriptInfo scriptInfo = new ScriptInfo();
+	/**
+	 * Loads the specified scripts, for which {@link #callPreInitEvents(List)} has already been called.
+	 * @see #loadScripts(List, OpenCloseable)
+	 */
+	private static CompletableFuture<ScriptInfo> loadPreInitializedScripts(List<Config> configs, OpenCloseable openCloseable) {
+		if (configs.isEmpty()) // Nothing to load
+			return CompletableFuture.completedFuture(new ScriptInfo());
 
-		List<LoadingScriptInfo> scripts = new ArrayList<>();
+		long parseStart = System.nanoTime();
 
-		List<CompletableFuture<Void>> scriptInfoFutures = new ArrayList<>();
+		List<CompletableFuture<LoadingScriptInfo>> scriptInfoFutures = new ArrayList<>();
 		for (Config config : configs) {
 			if (config == null)
 				throw new NullPointerException();
 
-			CompletableFuture<Void> future = makeFuture(() -> {
-				LoadingScriptInfo info = loadScript(config);
-				scripts.add(info);
-				scriptInfo.add(new ScriptInfo(1, info.structures.size()));
-				return null;
-			}, openCloseable);
+			CompletableFuture<LoadingScriptInfo> future = makeFuture(() -> loadScript(config), openCloseable);
 
 			scriptInfoFutures.add(future);
 		}
 
 		return CompletableFuture.allOf(scriptInfoFutures.toArray(new CompletableFuture[0]))
 			.thenApply(unused -> {
-				// TODO in the future this won't work when parallel loading is fixed
-				// It does now though so let's avoid calling getParser() a bunch.
+				long parseTime = System.nanoTime() - parseStart;
+
+				// collected in config order, as the futures may have completed in any order
+				ScriptInfo scriptInfo = new ScriptInfo();
+				List<LoadingScriptInfo> scripts = new ArrayList<>(scriptInfoFutures.size());
+				for (CompletableFuture<LoadingScriptInfo> future : scriptInfoFutures) {
+					LoadingScriptInfo info = future.join();
+					scripts.add(info);
+					scriptInfo.add(new ScriptInfo(1, info.structures.size()));
+				}
+
 				ParserInstance parser = getParser();
 
 				try {
@@ -502,6 +528,7 @@ public class ScriptLoader {
 							.collect(Collectors.toCollection(ArrayList::new));
 
 					// pre-loading
+					long preLoadStart = System.nanoTime();
 					pairs.removeIf(pair -> {
 						LoadingScriptInfo loadingInfo = pair.getFirst();
 						Structure structure = pair.getSecond();
@@ -525,36 +552,23 @@ public class ScriptLoader {
 					});
 					parser.setInactive();
 
-					// TODO in the future, Structure#load/Structure#postLoad should be split across multiple threads if parallel loading is enabled.
-					// However, this is not possible right now as reworks in multiple areas will be needed.
-					// For example, the "Commands" class still uses a static list for currentArguments that is cleared between loads.
-					// Until these reworks happen, limiting main loading to asynchronous (not parallel) is the only choice we have.
-
 					// loading
-					pairs.removeIf(pair -> {
-						LoadingScriptInfo loadingInfo = pair.getFirst();
-						Structure structure = pair.getSecond();
-
-						parser.setActive(loadingInfo.script);
-						parser.setCurrentStructure(structure);
-						parser.setNode(loadingInfo.nodeMap.get(structure));
-
-						try {
-							if (!structure.load()) {
-								loadingInfo.structures.remove(structure);
+					long loadStart = System.nanoTime();
+					if (isParallel()) {
+						loadStructuresInParallel(pairs, openCloseable);
+					} else {
+						pairs.removeIf(pair -> {
+							if (!loadStructure(parser, pair.getFirst(), pair.getSecond())) {
+								pair.getFirst().structures.remove(pair.getSecond());
 								return true;
 							}
-						} catch (Exception e) {
-							//noinspection ThrowableNotThrown
-							Skript.exception(e, "An error occurred while trying to load a Structure.");
-							loadingInfo.structures.remove(structure);
-							return true;
-						}
-						return false;
-					});
-					parser.setInactive();
+							return false;
+						});
+						parser.setInactive();
+					}
 
 					// post-loading
+					long postLoadStart = System.nanoTime();
 					pairs.removeIf(pair -> {
 						LoadingScriptInfo loadingInfo = pair.getFirst();
 						Structure structure = pair.getSecond();
@@ -577,6 +591,16 @@ public class ScriptLoader {
 						return false;
 					});
 					parser.setInactive();
+					long postLoadEnd = System.nanoTime();
+
+					if (Skript.logHigh()) {
+						Skript.info("loaded " + pairs.size() + " structures from " + scripts.size() + " scripts"
+							+ " (parsing: " + TimeUnit.NANOSECONDS.toMillis(parseTime) + "ms"
+							+ ", pre-loading: " + TimeUnit.NANOSECONDS.toMillis(loadStart - preLoadStart) + "ms"
+							+ ", loading: " + TimeUnit.NANOSECONDS.toMillis(postLoadStart - loadStart) + "ms"
+							+ (isParallel() ? " on " + asyncLoaderSize + " threads" : "")
+							+ ", post-loading: " + TimeUnit.NANOSECONDS.toMillis(postLoadEnd - postLoadStart) + "ms)");
+					}
 
 					// trigger events
 					scripts.forEach(loadingInfo -> {
@@ -606,6 +630,98 @@ public class ScriptLoader {
 			});
 	}
 
+	/**
+	 * Runs the {@link Structure#load()} stage of a structure using the provided parser.
+	 * The parser is left active, it is up to the caller to make it inactive once done.
+	 * @return Whether the structure loaded successfully.
+	 *  The caller is responsible for removing it from its script if it did not.
+	 */
+	private static boolean loadStructure(ParserInstance parser, LoadingScriptInfo loadingInfo, Structure structure) {
+		parser.setActive(loadingInfo.script);
+		parser.setCurrentStructure(structure);
+		parser.setNode(loadingInfo.nodeMap.get(structure));
+
+		try {
+			return structure.load();
+		} catch (Exception e) {
+			//noinspection ThrowableNotThrown
+			Skript.exception(e, "An error occurred while trying to load a Structure.");
+			return false;
+		}
+	}
+
+	/**
+	 * Runs the {@link Structure#load()} stage of the provided structures across the async loaders.
+	 * Structures are loaded one priority at a time, as only structures sharing a priority are independent of each other.
+	 * The calling thread takes part in loading, so this method does not rely on any loader being idle.
+	 * @param pairs The structures to load, sorted by priority. Structures that fail to load are removed.
+	 * @param openCloseable The {@link OpenCloseable} to open around the work done on each async loader.
+	 *  It is expected to already be open on the calling thread.
+	 */
+	private static void loadStructuresInParallel(List<NonNullPair<LoadingScriptInfo, Structure>> pairs, OpenCloseable openCloseable) {
+		Set<NonNullPair<LoadingScriptInfo, Structure>> failed = ConcurrentHashMap.newKeySet();
+
+		int start = 0;
+		while (start < pairs.size()) {
+			Structure.Priority priority = pairs.get(start).getSecond().getPriority();
+			int end = start + 1;
+			while (end < pairs.size() && pairs.get(end).getSecond().getPriority().compareTo(priority) == 0)
+				end++;
+
+			Queue<NonNullPair<LoadingScriptInfo, Structure>> queue = new ConcurrentLinkedQueue<>(pairs.subList(start, end));
+			CountDownLatch remaining = new CountDownLatch(end - start);
+			Runnable worker = () -> {
+				ParserInstance parser = getParser();
+				try {
+					NonNullPair<LoadingScriptInfo, Structure> pair;
+					while ((pair = queue.poll()) != null) {
+						try {
+							if (!loadStructure(parser, pair.getFirst(), pair.getSecond()))
+								failed.add(pair);
+						} finally {
+							remaining.countDown();
+						}
+					}
+				} finally {
+					parser.setInactive();
+				}
+			};
+
+			int helpers = Math.min(asyncLoaderSize, end - start) - 1;
+			for (int i = 0; i < helpers; i++) {
+				loadQueue.add(() -> {
+					if (queue.isEmpty()) // the other threads already took care of everything
+						return;
+					openCloseable.open();
+					try {
+						worker.run();
+					} finally {
+						openCloseable.close();
+					}
+				});
+			}
+			worker.run();
+
+			try {
+				remaining.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw Skript.exception(e, "Interrupted while waiting for structures to load.");
+			}
+
+			start = end;
+		}
+
+		// the structure lists of scripts are not thread-safe, so they are only modified once loading is done
+		pairs.removeIf(pair -> {
+			if (failed.contains(pair)) {
+				pair.getFirst().structures.remove(pair.getSecond());
+				return true;
+			}
+			return false;
+		});
+	}
+
 	private static class LoadingScriptInfo {
 
 		public final Script script;
@@ -636,6 +752,8 @@ public class ScriptLoader {
 		Map<Structure, Node> nodeMap = new HashMap<>();
 		List<Structure> structures = new ArrayList<>();
 		Script script = new Script(config, structures);
+		ReloadData reloadData = new ReloadData(structures);
+		script.addData(reloadData);
 		parser.setActive(script);
 
 		try {
@@ -650,10 +768,11 @@ public class ScriptLoader {
 						continue;
 					}
 
-					String line = node.getKey();
-					if (line == null)
+					String key = node.getKey();
+					if (key == null)
 						continue;
-					line = replaceOptions(line); // replace options here before validation
+					NodeSource source = NodeSource.of(node); // before parsing, as structures may modify their nodes
+					String line = replaceOptions(key); // replace options here before validation
 
 					if (!SkriptParser.validateLine(line))
 						continue;
@@ -661,13 +780,14 @@ public class ScriptLoader {
 					if (Skript.logVeryHigh() && !Skript.debug())
 						Skript.info("loading trigger '" + line + "'");
 
-					Structure structure = Structure.parse(line, node, "Can't understand this structure: " + line);
+					Structure structure = Structure.parse(line, node, () -> "Can't understand this structure: " + line);
 
 					if (structure == null)
 						continue;
 
 					structures.add(structure);
 					nodeMap.put(structure, node);
+					reloadData.sources.put(structure, source);
 				}
 
 				if (Skript.logHigh()) {
@@ -900,24 +1020,352 @@ public class ScriptLoader {
 
 	/**
 	 * Reloads all provided Scripts.
+	 * Where possible, only the {@link Structure}s whose source has changed are reloaded,
+	 *  while {@link Structure#isReusable() reusable} Structures with unchanged sources are kept loaded.
+	 * Scripts for which this is not possible are unloaded and loaded again entirely.
+	 * The changed Structures are parsed on the loader threads, like Scripts being loaded.
+	 * For Scripts that are only partially reloaded, the {@link ScriptPreInitEvent}s and {@link ScriptLoadEvent}s are called,
+	 *  but as the Script remains loaded, no {@link ScriptInitEvent}s or {@link ScriptUnloadEvent}s.
 	 * @param scripts The Scripts to reload.
 	 * @param openCloseable An {@link OpenCloseable} that will be called before and after
 	 *                         each individual Script load (see {@link #makeFuture(Supplier, OpenCloseable)}).
 	 * @return Info on the loaded Scripts.
 	 */
 	public static CompletableFuture<ScriptInfo> reloadScripts(Set<Script> scripts, OpenCloseable openCloseable) {
-		unloadScripts(scripts);
-
-		List<Config> configs = new ArrayList<>();
+		Map<Config, Script> configs = new LinkedHashMap<>();
 		for (Script script : scripts) {
 			//noinspection ConstantConditions - getFile should never return null
 			Config config = loadStructure(script.getConfig().getFile());
-			if (config == null)
+			if (config == null) {
+				Set<Script> remaining = new HashSet<>(scripts);
+				remaining.retainAll(loadedScripts); // a script whose file no longer exists has already been unloaded
+				unloadScripts(remaining);
 				return CompletableFuture.completedFuture(new ScriptInfo());
-			configs.add(config);
+			}
+			configs.put(config, script);
 		}
 
-		return loadScripts(configs, openCloseable);
+		// listeners may change what is loaded, just like when loading scripts
+		List<Config> preInitConfigs = new ArrayList<>(configs.keySet());
+		callPreInitEvents(preInitConfigs);
+
+		Set<Script> fullReloads = new HashSet<>();
+		List<Config> fullReloadConfigs = new ArrayList<>();
+		List<CompletableFuture<@Nullable StructureReload>> futures = new ArrayList<>();
+		for (Config config : preInitConfigs) {
+			Script script = configs.remove(config);
+			if (script == null) { // added by a listener
+				fullReloadConfigs.add(config);
+				continue;
+			}
+			futures.add(makeFuture(() -> prepareStructureReload(script, config), openCloseable).thenApply(reload -> {
+				if (reload == null) {
+					synchronized (fullReloads) {
+						fullReloads.add(script);
+						fullReloadConfigs.add(config);
+					}
+				}
+				return reload;
+			}));
+		}
+		// scripts whose config was removed by a listener are not loaded again
+		synchronized (fullReloads) {
+			fullReloads.addAll(configs.values());
+		}
+
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenCompose(unused -> {
+			ScriptInfo info = new ScriptInfo();
+			// applied in config order, as the futures may have completed in any order
+			for (CompletableFuture<@Nullable StructureReload> future : futures) {
+				StructureReload reload = future.join();
+				if (reload != null)
+					info.add(reload.apply(openCloseable));
+			}
+
+			unloadScripts(fullReloads);
+			List<Config> orderedConfigs = new ArrayList<>(preInitConfigs);
+			orderedConfigs.retainAll(fullReloadConfigs);
+			return loadPreInitializedScripts(orderedConfigs, openCloseable).thenApply(loadedInfo -> {
+				loadedInfo.add(info);
+				return loadedInfo;
+			});
+		});
+	}
+
+	/**
+	 * Bookkeeping used to determine which Structures of a Script may be reused when it is reloaded.
+	 */
+	private static final class ReloadData implements ScriptData {
+
+		/**
+		 * The modifiable structure list of the script.
+		 */
+		private final List<Structure> structures;
+
+		/**
+		 * The contents of the nodes the structures were loaded from.
+		 */
+		private final Map<Structure, NodeSource> sources = new HashMap<>();
+
+		private ReloadData(List<Structure> structures) {
+			this.structures = structures;
+		}
+
+	}
+
+	/**
+	 * Matches the names of functions being declared.
+	 */
+	private static final Pattern FUNCTION_DECLARATION_PATTERN =
+		Pattern.compile("^(?:local )?(?:pure )?function (" + Functions.functionNamePattern + ")\\(");
+
+	/**
+	 * Prepares reloading a Script by only reloading the Structures whose source has changed.
+	 * Structures calling a changed function are reloaded too, as the signature of the function may have changed.
+	 * This is not possible if the Script contains Structures that are not {@link Structure#isReusable() reusable},
+	 *  or if a Structure that loads before functions (such as options) has changed,
+	 *  as the rest of the Script may depend on it.
+	 * The changed Structures are parsed here, but nothing is unloaded until the reload is {@link StructureReload#apply(OpenCloseable) applied}.
+	 * @param script The Script to reload.
+	 * @param config The new contents of the Script.
+	 * @return The prepared reload, or null if the Script has to be reloaded entirely.
+	 */
+	private static @Nullable StructureReload prepareStructureReload(Script script, Config config) {
+		ReloadData reloadData = script.getData(ReloadData.class);
+		if (reloadData == null)
+			return null;
+
+		Map<NodeSource, Structure> loaded = new HashMap<>();
+		for (Structure structure : reloadData.structures) {
+			NodeSource source = reloadData.sources.get(structure);
+			if (!structure.isReusable() || source == null || loaded.put(source, structure) != null)
+				return null;
+		}
+
+		// match the new nodes against the structures loaded from identical nodes
+		Map<Structure, Node> reused = new LinkedHashMap<>();
+		Map<Node, NodeSource> changed = new LinkedHashMap<>();
+		for (Node node : config.getMainNode()) {
+			if (node.getKey() == null)
+				continue;
+			NodeSource source = NodeSource.of(node);
+			Structure structure = loaded.remove(source);
+			if (structure != null) {
+				reused.put(structure, node);
+			} else {
+				changed.put(node, source);
+			}
+		}
+		List<Structure> removed = new ArrayList<>(loaded.values());
+
+		// calls to changed functions have to be parsed again
+		Set<String> changedFunctions = new HashSet<>();
+		for (Structure structure : removed) {
+			if (structure instanceof StructFunction function && function.getSignature() != null)
+				changedFunctions.add(function.getSignature().getName());
+		}
+		for (Node node : changed.keySet()) {
+			Matcher matcher = FUNCTION_DECLARATION_PATTERN.matcher(node.getKey());
+			if (matcher.find())
+				changedFunctions.add(matcher.group(1));
+		}
+		boolean foundDependents = !changedFunctions.isEmpty();
+		while (foundDependents) {
+			foundDependents = false;
+			Iterator<Map.Entry<Structure, Node>> iterator = reused.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<Structure, Node> entry = iterator.next();
+				if (!callsAny(entry.getValue(), changedFunctions))
+					continue;
+				iterator.remove();
+				removed.add(entry.getKey());
+				changed.put(entry.getValue(), NodeSource.of(entry.getValue()));
+				if (entry.getKey() instanceof StructFunction function && function.getSignature() != null)
+					foundDependents |= changedFunctions.add(function.getSignature().getName());
+			}
+		}
+
+		for (Structure structure : removed) {
+			if (structure.getPriority().compareTo(StructFunction.PRIORITY) < 0)
+				return null;
+		}
+
+		// parse the changed nodes before unloading anything, so that we may still fall back to a full reload
+		ParserInstance parser = getParser();
+		Map<Structure, Node> nodeMap = new HashMap<>();
+		Map<Structure, NodeSource> sources = new HashMap<>();
+		List<Structure> added = new ArrayList<>();
+		RetainingLogHandler logHandler = SkriptLogger.startRetainingLog();
+		try {
+			parser.setActive(script);
+			for (Map.Entry<Node, NodeSource> entry : changed.entrySet()) {
+				Node node = entry.getKey();
+				if (!(node instanceof SimpleNode) && !(node instanceof SectionNode)) {
+					// unlikely to occur, but just in case
+					Skript.error("could not interpret line as a structure");
+					continue;
+				}
+
+				String line = replaceOptions(node.getKey());
+				if (!SkriptParser.validateLine(line))
+					continue;
+
+				Structure structure = Structure.parse(line, node, () -> "Can't understand this structure: " + line);
+				if (structure == null)
+					continue;
+				if (structure.getPriority().compareTo(StructFunction.PRIORITY) < 0)
+					return null;
+
+				added.add(structure);
+				nodeMap.put(structure, node);
+				sources.put(structure, entry.getValue());
+			}
+		} finally {
+			parser.setInactive();
+			logHandler.stop();
+		}
+		// logged here, as the log handlers of the loading thread may differ from the ones applying the reload
+		SkriptLogger.logAll(logHandler.getLog());
+
+		return new StructureReload(script, config, reloadData, removed, added, reused, nodeMap, sources);
+	}
+
+	/**
+	 * A reload of the changed Structures of a Script, prepared by {@link #prepareStructureReload(Script, Config)}.
+	 */
+	private record StructureReload(Script script, Config config, ReloadData reloadData,
+								   List<Structure> removed, List<Structure> added, Map<Structure, Node> reused,
+								   Map<Structure, Node> nodeMap, Map<Structure, NodeSource> sources) {
+
+		/**
+		 * Unloads the changed Structures and loads the new ones.
+		 * As the Script itself remains loaded, the {@link ScriptLoadEvent}s are called,
+		 *  but no {@link ScriptInitEvent}s or {@link ScriptUnloadEvent}s.
+		 * @param openCloseable An {@link OpenCloseable} that will be called before and after the reload.
+		 * @return Info on the loaded Structures.
+		 */
+		private ScriptInfo apply(OpenCloseable openCloseable) {
+			ParserInstance parser = getParser();
+			openCloseable.open();
+			try {
+				// unload the structures that changed
+				parser.setActive(script);
+				for (Structure structure : removed)
+					structure.unload();
+				for (Structure structure : removed)
+					structure.postUnload();
+				reloadData.structures.removeAll(removed);
+				reloadData.sources.keySet().removeAll(removed);
+				reloadData.sources.putAll(sources);
+
+				script.setConfig(config);
+				// the sources of the reused structures may have moved
+				reused.forEach((structure, node) -> {
+					parser.setCurrentStructure(structure);
+					parser.setNode(node);
+					structure.reuse(node);
+				});
+				if (SkriptConfig.keepConfigsLoaded.value())
+					SkriptConfig.configs.add(config);
+
+				// load the new structures
+				List<Structure> added = new ArrayList<>(this.added);
+				added.sort(Comparator.comparing(Structure::getPriority));
+				added.removeIf(structure -> {
+					parser.setCurrentStructure(structure);
+					parser.setNode(nodeMap.get(structure));
+					try {
+						return !structure.preLoad();
+					} catch (Exception e) {
+						//noinspection ThrowableNotThrown
+						Skript.exception(e, "An error occurred while trying to preLoad a Structure.");
+						return true;
+					}
+				});
+				added.removeIf(structure -> {
+					parser.setCurrentStructure(structure);
+					parser.setNode(nodeMap.get(structure));
+					try {
+						return !structure.load();
+					} catch (Exception e) {
+						//noinspection ThrowableNotThrown
+						Skript.exception(e, "An error occurred while trying to load a Structure.");
+						return true;
+					}
+				});
+				added.removeIf(structure -> {
+					parser.setCurrentStructure(structure);
+					parser.setNode(nodeMap.get(structure));
+					try {
+						return !structure.postLoad();
+					} catch (Exception e) {
+						//noinspection ThrowableNotThrown
+						Skript.exception(e, "An error occurred while trying to postLoad a Structure.");
+						return true;
+					}
+				});
+				reloadData.structures.addAll(added);
+				reloadData.sources.keySet().retainAll(reloadData.structures);
+
+				// trigger events
+				parser.setCurrentStructure(null);
+				parser.setNode(config.getMainNode());
+				ScriptLoader.eventRegistry().events(ScriptLoadEvent.class)
+					.forEach(event -> event.onLoad(parser, script));
+				script.eventRegistry().events(ScriptLoadEvent.class)
+					.forEach(event -> event.onLoad(parser, script));
+
+				if (Skript.logNormal()) {
+					Skript.info("reloaded " + added.size() + " and reused " + reused.size() + " structure"
+						+ (reused.size() == 1 ? "" : "s") + " of '" + config.getFileName() + "'");
+				}
+
+				return new ScriptInfo(1, added.size());
+			} finally {
+				parser.setInactive();
+				openCloseable.close();
+			}
+		}
+
+	}
+
+	/**
+	 * A copy of the contents of a node and all of its child nodes, used to find the Structures whose source is unchanged.
+	 * Line numbers are not included, so that Structures whose source has only moved may still be reused.
+	 */
+	private record NodeSource(Class<? extends Node> type, @Nullable String key, @Nullable String value,
+							  List<NodeSource> children) {
+
+		private static NodeSource of(Node node) {
+			List<NodeSource> children = new ArrayList<>();
+			if (node instanceof SectionNode section) {
+				for (Node child : section)
+					children.add(of(child));
+			}
+			String value = node instanceof EntryNode entry ? entry.getValue() : null;
+			return new NodeSource(node.getClass(), node.getKey(), value, children);
+		}
+
+	}
+
+	/**
+	 * @return Whether the provided node or any of its child nodes seem to call any of the provided functions.
+	 */
+	private static boolean callsAny(Node node, Set<String> functions) {
+		String key = node.getKey();
+		if (key != null) {
+			for (String function : functions) {
+				if (key.contains(function + "("))
+					return true;
+			}
+		}
+		if (node instanceof SectionNode section) {
+			for (Node child : section) {
+				if (callsAny(child, functions))
+					return true;
+			}
+		}
+		return false;
 	}
 
 	/*
@@ -965,7 +1413,7 @@ public class ScriptLoader {
 			TriggerItem item;
 			if (subNode instanceof SimpleNode) {
 				long start = System.currentTimeMillis();
-				item = Statement.parse(expr, items, "Can't understand this condition/effect: " + expr);
+				item = Statement.parse(expr, items, () -> "Can't understand this condition/effect: " + expr);
 				if (item == null)
 					continue;
 				long requiredTime = SkriptConfig.longParseTimeWarningThreshold.value().getAs(Timespan.TimePeriod.MILLISECOND);
@@ -996,7 +1444,7 @@ public class ScriptLoader {
 					RetainingLogHandler backup = handler.backup();
 					handler.clear();
 
-					item = Statement.parse(expr, "Can't understand this condition/effect: " + expr, (SectionNode) subNode, items);
+					item = Statement.parse(expr, () -> "Can't understand this condition/effect: " + expr, (SectionNode) subNode, items);
 
 					if (item != null)
 						break find_section;
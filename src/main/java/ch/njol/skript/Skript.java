@@ -21,6 +21,7 @@ import ch.njol.skript.lang.SyntaxElementInfo;
 import ch.njol.skript.lang.Trigger;
 import ch.njol.skript.lang.TriggerItem;
 import ch.njol.skript.lang.Condition.ConditionType;
+import ch.njol.skript.lang.parser.ParseHints;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.localization.Language;
 import ch.njol.skript.localization.Message;
@@ -42,7 +43,6 @@ import ch.njol.skript.variables.Variables;
 import ch.njol.util.Closeable;
 import ch.njol.util.Kleenean;
 import ch.njol.util.StringUtils;
-import ch.njol.util.coll.iterator.CheckedIterator;
 import ch.njol.util.coll.iterator.EnumerationIterable;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -112,8 +112,10 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Filter;
@@ -642,7 +644,7 @@ public final class Skript extends JavaPlugin implements Listener {
 					public LogResult log(final LogEntry entry) {
 						super.log(entry);
 						if (entry.level.intValue() >= Level.SEVERE.intValue()) {
-							logEx(entry.message); // no [Skript] prefix
+							logEx(entry.getMessage()); // no [Skript] prefix
 							return LogResult.DO_NOT_LOG;
 						} else {
 							return LogResult.LOG;
@@ -698,9 +700,13 @@ public final class Skript extends JavaPlugin implements Listener {
 
 				File scriptsFolder = getScriptsFolder();
 				ScriptLoader.updateDisabledScripts(scriptsFolder.toPath());
+				if (SkriptConfig.cacheParseHints.value())
+					ParseHints.load(getDataFolder().toPath());
 				ScriptLoader.loadScripts(scriptsFolder, logHandler)
 					.thenAccept(scriptInfo -> {
 						try {
+							if (SkriptConfig.cacheParseHints.value())
+								ParseHints.save(getDataFolder().toPath());
 							if (logHandler.getCount() == 0)
 								Skript.info(m_no_errors.toString());
 							if (scriptInfo.files == 0)
@@ -1536,32 +1542,71 @@ public final class Skript extends JavaPlugin implements Listener {
 		);
 	}
 
+	/**
+	 * The legacy infos of the syntaxes registered with a key, which are only created again once these syntaxes change.
+	 * This avoids converting every syntax info whenever the parser asks for them.
+	 * The cached legacy infos are shared, so they must not be modified.
+	 */
+	private static final class LegacySyntaxInfos<I extends SyntaxInfo<?>, L extends SyntaxElementInfo<?>> {
+
+		private final SyntaxRegistry.Key<I> key;
+		private volatile @Nullable Snapshot<I, L> snapshot;
+
+		private LegacySyntaxInfos(SyntaxRegistry.Key<I> key) {
+			this.key = key;
+		}
+
+		/**
+		 * @param source The modern infos the legacy infos were created from
+		 * @param infos The legacy infos
+		 * @param byReturnTypes Only used for expressions, the legacy infos which may return any of the given types
+		 */
+		private record Snapshot<I, L>(Collection<I> source, @Unmodifiable List<L> infos, Map<List<Class<?>>, List<L>> byReturnTypes) {}
+
+		private Snapshot<I, L> snapshot() {
+			Collection<I> source = instance().syntaxRegistry().syntaxes(key);
+			Snapshot<I, L> snapshot = this.snapshot;
+			if (snapshot == null || snapshot.source() != source) {
+				//noinspection unchecked
+				List<L> infos = source.stream()
+						.map(info -> (L) SyntaxElementInfo.fromModern((SyntaxInfo) info))
+						.collect(Collectors.toUnmodifiableList());
+				this.snapshot = snapshot = new Snapshot<>(source, infos, new ConcurrentHashMap<>());
+			}
+			return snapshot;
+		}
+
+		public @Unmodifiable List<L> get() {
+			return snapshot().infos();
+		}
+
+	}
+
+	private static final LegacySyntaxInfos<SyntaxInfo<? extends Statement>, SyntaxElementInfo<? extends Statement>> STATEMENT_INFOS =
+			new LegacySyntaxInfos<>(SyntaxRegistry.STATEMENT);
+	private static final LegacySyntaxInfos<SyntaxInfo<? extends Condition>, SyntaxElementInfo<? extends Condition>> CONDITION_INFOS =
+			new LegacySyntaxInfos<>(SyntaxRegistry.CONDITION);
+	private static final LegacySyntaxInfos<SyntaxInfo<? extends Effect>, SyntaxElementInfo<? extends Effect>> EFFECT_INFOS =
+			new LegacySyntaxInfos<>(SyntaxRegistry.EFFECT);
+	private static final LegacySyntaxInfos<SyntaxInfo<? extends Section>, SyntaxElementInfo<? extends Section>> SECTION_INFOS =
+			new LegacySyntaxInfos<>(SyntaxRegistry.SECTION);
+	private static final LegacySyntaxInfos<SyntaxInfo.Expression<?, ?>, ExpressionInfo<?, ?>> EXPRESSION_INFOS =
+			new LegacySyntaxInfos<>(SyntaxRegistry.EXPRESSION);
+
 	public static @Unmodifiable Collection<SyntaxElementInfo<? extends Statement>> getStatements() {
-		return instance().syntaxRegistry()
-				.syntaxes(SyntaxRegistry.STATEMENT).stream()
-				.map(SyntaxElementInfo::<SyntaxElementInfo<Statement>, Statement>fromModern)
-				.collect(Collectors.toUnmodifiableList());
+		return STATEMENT_INFOS.get();
 	}
 
 	public static @Unmodifiable Collection<SyntaxElementInfo<? extends Condition>> getConditions() {
-		return instance().syntaxRegistry()
-				.syntaxes(SyntaxRegistry.CONDITION).stream()
-				.map(SyntaxElementInfo::<SyntaxElementInfo<Condition>, Condition>fromModern)
-				.collect(Collectors.toUnmodifiableList());
+		return CONDITION_INFOS.get();
 	}
 
 	public static @Unmodifiable Collection<SyntaxElementInfo<? extends Effect>> getEffects() {
-		return instance().syntaxRegistry()
-				.syntaxes(SyntaxRegistry.EFFECT).stream()
-				.map(SyntaxElementInfo::<SyntaxElementInfo<Effect>, Effect>fromModern)
-				.collect(Collectors.toUnmodifiableList());
+		return EFFECT_INFOS.get();
 	}
 
 	public static @Unmodifiable Collection<SyntaxElementInfo<? extends Section>> getSections() {
-		return instance().syntaxRegistry()
-				.syntaxes(SyntaxRegistry.SECTION).stream()
-				.map(SyntaxElementInfo::<SyntaxElementInfo<Section>, Section>fromModern)
-				.collect(Collectors.toUnmodifiableList());
+		return SECTION_INFOS.get();
 	}
 
 	// ================ EXPRESSIONS ================
@@ -1588,23 +1633,39 @@ public final class Skript extends JavaPlugin implements Listener {
 	}
 
 	public static Iterator<ExpressionInfo<?, ?>> getExpressions() {
-		List<ExpressionInfo<?, ?>> list = new ArrayList<>();
-		for (SyntaxInfo.Expression<?, ?> info : instance().syntaxRegistry().syntaxes(SyntaxRegistry.EXPRESSION))
-			list.add((ExpressionInfo<?, ?>) SyntaxElementInfo.fromModern(info));
-		return list.iterator();
+		return EXPRESSION_INFOS.get().iterator();
 	}
 
+	/**
+	 * @return The expressions which may return any of the given types, either directly or by converting their values.
+	 * Once registrations are closed, these are only determined once per combination of types.
+	 */
 	public static Iterator<ExpressionInfo<?, ?>> getExpressions(Class<?>... returnTypes) {
-		return new CheckedIterator<>(getExpressions(), info -> {
-			if (info == null || info.returnType == Object.class)
-				return true;
+		var snapshot = EXPRESSION_INFOS.snapshot();
+		// converters may still be registered, which changes which expressions can be used
+		if (isAcceptRegistrations())
+			return getExpressions(snapshot.infos(), returnTypes).iterator();
+		return snapshot.byReturnTypes()
+				.computeIfAbsent(List.of(returnTypes), types -> getExpressions(snapshot.infos(), returnTypes))
+				.iterator();
+	}
+
+	private static List<ExpressionInfo<?, ?>> getExpressions(List<ExpressionInfo<?, ?>> infos, Class<?>... returnTypes) {
+		List<ExpressionInfo<?, ?>> expressions = new ArrayList<>();
+		for (ExpressionInfo<?, ?> info : infos) {
+			if (info.returnType == Object.class) {
+				expressions.add(info);
+				continue;
+			}
 			for (Class<?> returnType : returnTypes) {
 				assert returnType != null;
-				if (Converters.converterExists(info.returnType, returnType))
-					return true;
+				if (Converters.converterExists(info.returnType, returnType)) {
+					expressions.add(info);
+					break;
+				}
 			}
-			return false;
-		});
+		}
+		return Collections.unmodifiableList(expressions);
 	}
 
 	// ================ EVENTS ================
@@ -1676,18 +1737,17 @@ public final class Skript extends JavaPlugin implements Listener {
 		);
 	}
 
+	private static final LegacySyntaxInfos<BukkitSyntaxInfos.Event<?>, SkriptEventInfo<?>> EVENT_INFOS =
+			new LegacySyntaxInfos<>(BukkitRegistryKeys.EVENT);
+	private static final LegacySyntaxInfos<SyntaxInfo.Structure<?>, StructureInfo<? extends Structure>> STRUCTURE_INFOS =
+			new LegacySyntaxInfos<>(SyntaxRegistry.STRUCTURE);
+
 	public static @Unmodifiable Collection<SkriptEventInfo<?>> getEvents() {
-		return instance().syntaxRegistry()
-				.syntaxes(BukkitRegistryKeys.EVENT).stream()
-				.map(SyntaxElementInfo::<SkriptEventInfo<SkriptEvent>, SkriptEvent>fromModern)
-				.collect(Collectors.toUnmodifiableList());
+		return EVENT_INFOS.get();
 	}
 
 	public static @Unmodifiable List<StructureInfo<? extends Structure>> getStructures() {
-		return instance().syntaxRegistry()
-				.syntaxes(SyntaxRegistry.STRUCTURE).stream()
-				.map(SyntaxElementInfo::<StructureInfo<Structure>, Structure>fromModern)
-				.collect(Collectors.toUnmodifiableList());
+		return STRUCTURE_INFOS.get();
 	}
 
 	// ================ COMMANDS ================
@@ -1799,6 +1859,18 @@ public final class Skript extends JavaPlugin implements Listener {
 		SkriptLogger.log(new LogEntry(SkriptLogger.SEVERE, quality, error));
 	}
 
+	/**
+	 * Like {@link #error(String, ErrorQuality)}, but only creates the message if it is actually printed.
+	 * This should be preferred for messages that are expensive to create while parsing,
+	 * as most errors logged during parsing are discarded when another pattern matches.
+	 *
+	 * @param error Supplies the message of the error
+	 * @param quality The quality of the error
+	 */
+	public static void error(Supplier<String> error, ErrorQuality quality) {
+		SkriptLogger.log(new LogEntry(SkriptLogger.SEVERE, quality.quality(), error, SkriptLogger.getNode()));
+	}
+
 	private final static String EXCEPTION_PREFIX = "#!#! ";
 
 	/**
@@ -5,6 +5,10 @@ import ch.njol.skript.command.CommandHelp;
 import ch.njol.skript.doc.Documentation;
 import ch.njol.skript.doc.HTMLGenerator;
 import ch.njol.skript.doc.JSONGenerator;
+import ch.njol.skript.lang.LoopSection;
+import ch.njol.skript.lang.function.Function;
+import ch.njol.skript.lang.function.FunctionCache;
+import ch.njol.skript.lang.function.Functions;
 import ch.njol.skript.localization.ArgsMessage;
 import ch.njol.skript.localization.Language;
 import ch.njol.skript.localization.PluralizingArgsMessage;
@@ -18,7 +22,9 @@ import ch.njol.skript.test.runner.TestTracker;
 import ch.njol.skript.test.utils.TestResults;
 import ch.njol.skript.util.ExceptionUtils;
 import ch.njol.skript.util.FileUtils;
+import ch.njol.skript.util.PeriodicalScheduler;
 import ch.njol.skript.util.SkriptColor;
+import ch.njol.skript.util.Timespan;
 import ch.njol.skript.util.Utils;
 import ch.njol.util.OpenCloseable;
 import ch.njol.util.StringUtils;
@@ -181,10 +187,10 @@ public class SkriptCommand implements CommandExecutor {
 
 						reloading(sender, "script", logHandler, scriptFile.getName());
 
+						// reloading a loaded script allows unchanged structures to be reused
 						Script script = ScriptLoader.getScript(scriptFile);
-						if (script != null)
-							ScriptLoader.unloadScript(script);
-						ScriptLoader.loadScripts(scriptFile, OpenCloseable.combine(logHandler, timingLogHandler))
+						OpenCloseable openCloseable = OpenCloseable.combine(logHandler, timingLogHandler);
+						(script != null ? ScriptLoader.reloadScript(script, openCloseable) : ScriptLoader.loadScripts(scriptFile, openCloseable))
 							.thenAccept(scriptInfo ->
 								reloaded(sender, logHandler, timingLogHandler, "script", scriptFile.getName())
 							);
@@ -380,6 +386,29 @@ public class SkriptCommand implements CommandExecutor {
 				if (!dependenciesFound)
 					info(sender, "info.dependencies", "None");
 
+				List<Function<?>> pureFunctions = Functions.getPureFunctions();
+				info(sender, "info.pure functions", pureFunctions.isEmpty() ? "None" : "");
+				for (Function<?> function : pureFunctions) {
+					FunctionCache cache = function.getCache();
+					if (cache != null) {
+						info(sender, "info.pure function", function.getName(), cache.getHits(), cache.getMisses(), cache.getEvictions());
+					}
+				}
+
+				Map<String, LoopSection.TimeSliceStats> timeSliceStats = LoopSection.getTimeSliceStats();
+				info(sender, "info.time sliced loops", timeSliceStats.isEmpty() ? "None" : "");
+				for (Map.Entry<String, LoopSection.TimeSliceStats> entry : timeSliceStats.entrySet()) {
+					LoopSection.TimeSliceStats stats = entry.getValue();
+					info(sender, "info.time sliced loop", entry.getKey(), stats.getMillis(), stats.getSlices());
+				}
+
+				Map<Long, PeriodicalScheduler.PeriodStats> periodStats = PeriodicalScheduler.getStats();
+				info(sender, "info.periodical events", periodStats.isEmpty() ? "None" : "");
+				for (Map.Entry<Long, PeriodicalScheduler.PeriodStats> entry : periodStats.entrySet()) {
+					PeriodicalScheduler.PeriodStats stats = entry.getValue();
+					info(sender, "info.periodical event", new Timespan(Timespan.TimePeriod.TICK, entry.getKey()), stats.getMillis(), stats.getRuns());
+				}
+
 			} else if (args[0].equalsIgnoreCase("gen-docs")) {
 				File templateDir = Documentation.getDocsTemplateDirectory();
 				File outputDir = Documentation.getDocsOutputDirectory();
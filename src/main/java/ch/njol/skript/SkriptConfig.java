@@ -302,6 +302,12 @@ public class SkriptConfig {
 	public static final Option<Boolean> loadDefaultAliases = new Option<>("load default aliases", true)
 			.optional(true);
 
+	public static final Option<Boolean> cacheParseHints = new Option<>("cache parse hints", false)
+			.optional(true);
+
+	public static final Option<Boolean> cacheAliases = new Option<>("cache aliases", false)
+			.optional(true);
+
 	public static final Option<Boolean> executeFunctionsWithMissingParams = new Option<>("execute functions with missing parameters", true)
 			.optional(true)
 			.setter(t -> Function.executeWithNulls = t);
@@ -356,6 +362,15 @@ public class SkriptConfig {
 
 	public static final Option<Timespan> longParseTimeWarningThreshold = new Option<>("long parse time warning threshold", new Timespan(0));
 
+	public static final Option<Timespan> timeSlicedLoopBudget = new Option<>("time sliced loop budget", new Timespan(Timespan.TimePeriod.MILLISECOND, 10))
+			.optional(true);
+
+	public static final Option<Integer> asyncSectionThreads = new Option<>("async section threads", 2)
+			.optional(true);
+
+	public static final Option<Boolean> staggerPeriodicalEvents = new Option<>("stagger periodical events", false)
+			.optional(true);
+
 
 	public static final Option<Timespan> runtimeErrorFrameDuration = new Option<>("runtime errors.frame duration", new Timespan(Timespan.TimePeriod.SECOND, 1));
 
@@ -67,6 +67,7 @@ public final class SkriptEventHandler {
 	/**
 	 * A Multimap tracking what Triggers are paired with what Events.
 	 * Each Event effectively maps to an ArrayList of Triggers.
+	 * Must be synchronized on, as Triggers may be registered while events are being called asynchronously.
 	 */
 	private static final Multimap<Class<? extends Event>, Trigger> triggers = ArrayListMultimap.create();
 
@@ -78,10 +79,12 @@ public final class SkriptEventHandler {
 	private static List<Trigger> getTriggers(Class<? extends Event> event) {
 		HandlerList eventHandlerList = getHandlerList(event);
 		assert eventHandlerList != null; // It had one at some point so this should remain true
-		return triggers.asMap().entrySet().stream()
-				.filter(entry -> entry.getKey().isAssignableFrom(event) && getHandlerList(entry.getKey()) == eventHandlerList)
-				.flatMap(entry -> entry.getValue().stream())
-				.collect(Collectors.toList()); // forces evaluation now and prevents us from having to call getTriggers again if very high logging is enabled
+		synchronized (triggers) {
+			return triggers.asMap().entrySet().stream()
+					.filter(entry -> entry.getKey().isAssignableFrom(event) && getHandlerList(entry.getKey()) == eventHandlerList)
+					.flatMap(entry -> entry.getValue().stream())
+					.collect(Collectors.toList()); // forces evaluation now and prevents us from having to call getTriggers again if very high logging is enabled
+		}
 	}
 
 	/**
@@ -283,7 +286,9 @@ public final class SkriptEventHandler {
 		if (handlerList == null)
 			return;
 
-		triggers.put(event, trigger);
+		synchronized (triggers) {
+			triggers.put(event, trigger);
+		}
 
 		EventPriority priority = trigger.getEvent().getEventPriority();
 
@@ -298,36 +303,38 @@ public final class SkriptEventHandler {
 	 * @param trigger The Trigger to unregister events for.
 	 */
 	public static void unregisterBukkitEvents(Trigger trigger) {
-		Iterator<Entry<Class<? extends Event>, Trigger>> entryIterator = triggers.entries().iterator();
-		entryLoop: while (entryIterator.hasNext()) {
-			Entry<Class<? extends Event>, Trigger> entry = entryIterator.next();
-			if (entry.getValue() != trigger)
-				continue;
-			Class<? extends Event> event = entry.getKey();
-
-			// Remove the trigger from the map
-			entryIterator.remove();
-
-			// check if we can unregister the listener
-			EventPriority priority = trigger.getEvent().getEventPriority();
-			for (Trigger eventTrigger : triggers.get(event)) {
-				if (eventTrigger.getEvent().getEventPriority() == priority)
-					continue entryLoop;
-			}
+		synchronized (triggers) {
+			Iterator<Entry<Class<? extends Event>, Trigger>> entryIterator = triggers.entries().iterator();
+			entryLoop: while (entryIterator.hasNext()) {
+				Entry<Class<? extends Event>, Trigger> entry = entryIterator.next();
+				if (entry.getValue() != trigger)
+					continue;
+				Class<? extends Event> event = entry.getKey();
+
+				// Remove the trigger from the map
+				entryIterator.remove();
+
+				// check if we can unregister the listener
+				EventPriority priority = trigger.getEvent().getEventPriority();
+				for (Trigger eventTrigger : triggers.get(event)) {
+					if (eventTrigger.getEvent().getEventPriority() == priority)
+						continue entryLoop;
+				}
 
-			// We can attempt to unregister this listener
-			HandlerList handlerList = getHandlerList(event);
-			if (handlerList == null)
-				continue;
-			Skript skript = Skript.getInstance();
-			for (RegisteredListener registeredListener : handlerList.getRegisteredListeners()) {
-				Listener listener = registeredListener.getListener();
-				if (
-					registeredListener.getPlugin() == skript
-					&& listener instanceof PriorityListener
-					&& ((PriorityListener) listener).priority == priority
-				) {
-					handlerList.unregister(listener);
+				// We can attempt to unregister this listener
+				HandlerList handlerList = getHandlerList(event);
+				if (handlerList == null)
+					continue;
+				Skript skript = Skript.getInstance();
+				for (RegisteredListener registeredListener : handlerList.getRegisteredListeners()) {
+					Listener listener = registeredListener.getListener();
+					if (
+						registeredListener.getPlugin() == skript
+						&& listener instanceof PriorityListener
+						&& ((PriorityListener) listener).priority == priority
+					) {
+						handlerList.unregister(listener);
+					}
 				}
 			}
 		}
@@ -10,6 +10,10 @@ import ch.njol.skript.entity.EntityData;
 import ch.njol.skript.lang.parser.ParserInstance;
 import ch.njol.skript.localization.*;
 import ch.njol.skript.log.BlockingLogHandler;
+import ch.njol.skript.log.CountingLogHandler;
+import ch.njol.skript.log.LogEntry;
+import ch.njol.skript.log.LogHandler;
+import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.util.EnchantmentType;
 import ch.njol.skript.util.Utils;
 import ch.njol.skript.util.Version;
@@ -21,16 +25,20 @@ import org.jetbrains.annotations.Nullable;
 import org.skriptlang.skript.lang.script.Script;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.*;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public abstract class Aliases {
 	static final boolean USING_ITEM_COMPONENTS = Skript.isRunningMinecraft(1, 20, 5);
@@ -456,6 +464,40 @@ public abstract class Aliases {
 	private static void loadInternal() throws IOException {
 		Path dataFolder = Skript.getInstance().getDataFolder().toPath();
 
+		if (SkriptConfig.cacheAliases.value()) {
+			String key = AliasesSnapshot.key(dataFolder);
+			if (!AliasesSnapshot.load(dataFolder, key, provider)) {
+				AliasesSnapshot snapshot = new AliasesSnapshot();
+				provider.setSnapshot(snapshot);
+				try (CountingLogHandler logHandler = new CountingLogHandler(Level.WARNING).start()) {
+					loadFiles(dataFolder);
+					// a snapshot would hide these problems on the next start
+					if (logHandler.getCount() == 0)
+						snapshot.save(dataFolder, key);
+				} finally {
+					provider.setSnapshot(null);
+				}
+			}
+		} else {
+			loadFiles(dataFolder);
+		}
+
+		// Update tracked item types
+		for (Map.Entry<String, ItemType> entry : trackedTypes.entrySet()) {
+			@SuppressWarnings("null") // No null keys in this map
+			ItemType type = parseItemType(entry.getKey());
+			if (type == null)
+				Skript.warning("Alias '" + entry.getKey() + "' is required by Skript, but does not exist anymore. "
+								   + "Make sure to fix this before restarting the server.");
+			else
+				entry.getValue().setTo(type);
+		}
+	}
+
+	/**
+	 * Parses the default aliases, the user aliases and the aliases generated for missing items.
+	 */
+	private static void loadFiles(Path dataFolder) throws IOException {
 		// Load aliases.zip OR aliases from jar (never both)
 		Path zipPath = dataFolder.resolve("aliases-english.zip");
 		if (!SkriptConfig.loadDefaultAliases.value()) {
@@ -491,41 +533,92 @@ public abstract class Aliases {
 
 		// generate aliases from item names for any missing items
 		loadMissingAliases();
-
-		// Update tracked item types
-		for (Map.Entry<String, ItemType> entry : trackedTypes.entrySet()) {
-			@SuppressWarnings("null") // No null keys in this map
-			ItemType type = parseItemType(entry.getKey());
-			if (type == null)
-				Skript.warning("Alias '" + entry.getKey() + "' is required by Skript, but does not exist anymore. "
-								   + "Make sure to fix this before restarting the server.");
-			else
-				entry.getValue().setTo(type);
-		}
 	}
 
 	/**
 	 * Loads aliases from given directory.
+	 * The files are read in parallel, but their aliases are added in the order of their paths,
+	 * as aliases may refer to aliases and variations of earlier files.
 	 * @param dir Directory of aliases.
 	 * @throws IOException If something goes wrong with loading.
 	 */
 	public static void loadDirectory(Path dir) throws IOException {
-		try {
-			Files.list(dir).sorted().forEach((f) -> {
-				assert f != null;
-				try {
-					String name = f.getFileName().toString();
-					if (Files.isDirectory(f) && !name.startsWith("."))
-						loadDirectory(f);
-					else if (name.endsWith(".sk"))
-						load(f);
-				} catch (IOException e) {
-					throw new UncheckedIOException(e);
-				}
-			});
-		} catch (UncheckedIOException e) {
-			throw e.getCause();
+		List<Path> files = new ArrayList<>();
+		listFiles(dir, files);
+
+		List<CompletableFuture<ReadFile>> futures = new ArrayList<>(files.size());
+		for (Path file : files)
+			futures.add(CompletableFuture.supplyAsync(() -> read(file)));
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+		for (CompletableFuture<ReadFile> future : futures) {
+			ReadFile file = future.join();
+			SkriptLogger.logAll(file.log().entries);
+			if (file.exception() != null)
+				throw file.exception();
+			assert file.config() != null;
+			load(file.config());
+		}
+	}
+
+	/**
+	 * Adds the aliases files in the given directory and its subdirectories to the given list, sorted by their paths.
+	 */
+	private static void listFiles(Path dir, List<Path> files) throws IOException {
+		List<Path> paths;
+		try (Stream<Path> stream = Files.list(dir)) {
+			paths = stream.sorted().collect(Collectors.toList());
+		}
+		for (Path path : paths) {
+			String name = path.getFileName().toString();
+			if (Files.isDirectory(path) && !name.startsWith("."))
+				listFiles(path, files);
+			else if (name.endsWith(".sk"))
+				files.add(path);
+		}
+	}
+
+	/**
+	 * An aliases file read by {@link #read(Path)}.
+	 * @param config The config of the file, or null if it could not be read.
+	 * @param exception The exception thrown while reading the file, or null if it was read.
+	 * @param log Everything that was logged while reading the file.
+	 */
+	private record ReadFile(@Nullable Config config, @Nullable IOException exception, DeferredLogHandler log) {}
+
+	/**
+	 * Reads an aliases file, which is safe to do on any thread.
+	 * Anything logged while reading is kept, so that it is logged together with the other messages of the file.
+	 */
+	private static ReadFile read(Path file) {
+		DeferredLogHandler log = new DeferredLogHandler();
+		try (log) {
+			log.start();
+			return new ReadFile(new Config(file, false, false, "="), null, log);
+		} catch (IOException e) {
+			return new ReadFile(null, e, log);
+		}
+	}
+
+	/**
+	 * Keeps everything logged while an aliases file is read on another thread.
+	 */
+	private static final class DeferredLogHandler extends LogHandler {
+
+		private final List<LogEntry> entries = new ArrayList<>();
+
+		@Override
+		public LogResult log(LogEntry entry) {
+			entries.add(entry);
+			return LogResult.CACHED;
 		}
+
+		@Override
+		public DeferredLogHandler start() {
+			SkriptLogger.startLogHandler(this);
+			return this;
+		}
+
 	}
 
 	/**
@@ -12,8 +12,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
@@ -58,6 +60,29 @@ public class AliasesProvider {
 	 */
 	private final AliasesMap aliasesMap;
 
+	/**
+	 * Records the aliases and variations added to this provider, if a snapshot of them is being created.
+	 */
+	@Nullable
+	private AliasesSnapshot snapshot;
+
+	/**
+	 * The maximum amount of items whose alias is cached by {@link #matchCache}.
+	 */
+	private static final int MATCH_CACHE_SIZE = 1024;
+
+	/**
+	 * The aliases of this provider that recently matched items best, as matching an item against
+	 * every alias of its material is expensive and is done whenever the name of an item is displayed.
+	 * The least recently used match is evicted once the cache is full.
+	 */
+	private final Map<ItemData.MatchKey, Optional<AliasesMap.AliasData>> matchCache = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ItemData.MatchKey, Optional<AliasesMap.AliasData>> eldest) {
+			return size() > MATCH_CACHE_SIZE;
+		}
+	};
+
 	/**
 	 * Constructs a new aliases provider with no data.
 	 */
@@ -131,6 +156,9 @@ public class AliasesProvider {
 	 * @param blockStates Block states.
 	 */
 	public void addAlias(AliasName name, String id, @Nullable Map<String, Object> tags, Map<String, String> blockStates) {
+		if (snapshot != null)
+			snapshot.recordAlias(name, id, tags, blockStates);
+
 		// First, try to find if aliases already has a type with this id
 		// (so that aliases can refer to each other)
 		ItemType typeOfId = getAlias(id);
@@ -197,6 +225,7 @@ public class AliasesProvider {
 			// Most accurately named alias for this item SHOULD be defined first
 			MaterialName materialName = new MaterialName(data.type, name.singular, name.plural, name.gender);
 			aliasesMap.addAlias(new AliasesMap.AliasData(data, materialName, id, related));
+			clearMatchCache();
 		}
 
 		// Check if there is item type with this name already, create otherwise
@@ -221,6 +250,8 @@ public class AliasesProvider {
 	}
 
 	public void addVariationGroup(String name, VariationGroup group) {
+		if (snapshot != null)
+			snapshot.recordVariationGroup(name, group);
 		variations.put(name, group);
 	}
 
@@ -239,7 +270,7 @@ public class AliasesProvider {
 	}
 
 	public AliasesMap.@Nullable AliasData getAliasData(ItemData item) {
-		AliasesMap.AliasData data = aliasesMap.matchAlias(item).getData();
+		AliasesMap.AliasData data = matchAlias(item);
 		if (data == null && parent != null) {
 			return parent.getAliasData(item);
 		}
@@ -278,12 +309,54 @@ public class AliasesProvider {
 		materials.clear();
 		variations.clear();
 		aliasesMap.clear();
+		clearMatchCache();
+	}
+
+	/**
+	 * Finds the alias of this provider that matches the given item best, using the cached match if there is one.
+	 */
+	private AliasesMap.@Nullable AliasData matchAlias(ItemData item) {
+		ItemData.MatchKey key = item.getMatchKey();
+		if (key == null)
+			return aliasesMap.matchAlias(item).getData();
+		Optional<AliasesMap.AliasData> data;
+		synchronized (matchCache) {
+			data = matchCache.get(key);
+		}
+		if (data == null) {
+			data = Optional.ofNullable(aliasesMap.matchAlias(item).getData());
+			synchronized (matchCache) {
+				matchCache.put(key, data);
+			}
+		}
+		return data.orElse(null);
+	}
+
+	private void clearMatchCache() {
+		synchronized (matchCache) {
+			matchCache.clear();
+		}
+	}
+
+	/**
+	 * Sets the snapshot that records the aliases and variations added to this provider from now on.
+	 * @param snapshot The snapshot, or null to stop recording.
+	 */
+	void setSnapshot(@Nullable AliasesSnapshot snapshot) {
+		this.snapshot = snapshot;
 	}
 
 	public int getAliasCount() {
 		return aliases.size();
 	}
 
+	/**
+	 * @return The names of all aliases loaded by this provider, excluding those of its parent.
+	 */
+	public Set<String> getAliasNames() {
+		return Collections.unmodifiableSet(aliases.keySet());
+	}
+
 	/**
 	 * Check if this provider has an alias for the given material.
 	 * @param material Material to check alias for
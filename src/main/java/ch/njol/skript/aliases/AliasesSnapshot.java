@@ -0,0 +1,252 @@
+package ch.njol.skript.aliases;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.SkriptConfig;
+import ch.njol.skript.aliases.AliasesProvider.AliasName;
+import ch.njol.skript.aliases.AliasesProvider.Variation;
+import ch.njol.skript.aliases.AliasesProvider.VariationGroup;
+import com.google.gson.Gson;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records the aliases and variations added to the global {@link AliasesProvider} while the aliases files are parsed,
+ * so that the next server start can add them again without parsing the files.
+ * <p>
+ * A snapshot is only used when it was written by the exact same Skript and server version
+ * from the exact same aliases files, as the resulting aliases may differ otherwise.
+ *
+ * @see SkriptConfig#cacheAliases
+ */
+final class AliasesSnapshot {
+
+	private static final String FILE_NAME = "aliases-snapshot.bin";
+
+	/**
+	 * Changed whenever the format of the snapshot changes.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final byte ALIAS = 0, VARIATION_GROUP = 1, END = 2;
+
+	private static final Gson gson = new Gson();
+
+	private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	private final DataOutputStream out = new DataOutputStream(bytes);
+
+	/**
+	 * Records an alias added by {@link AliasesProvider#addAlias(AliasName, String, Map, Map)}.
+	 */
+	void recordAlias(AliasName name, String id, @Nullable Map<String, Object> tags, Map<String, String> blockStates) {
+		try {
+			out.writeByte(ALIAS);
+			writeString(out, name.singular);
+			writeString(out, name.plural);
+			out.writeInt(name.gender);
+			writeString(out, id);
+			writeTags(out, tags);
+			writeStates(out, blockStates);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Records a variation group added by {@link AliasesProvider#addVariationGroup(String, VariationGroup)}.
+	 */
+	void recordVariationGroup(String name, VariationGroup group) {
+		try {
+			out.writeByte(VARIATION_GROUP);
+			writeString(out, name);
+			out.writeInt(group.keys.size());
+			for (int i = 0; i < group.keys.size(); i++) {
+				Variation variation = group.values.get(i);
+				writeString(out, group.keys.get(i));
+				out.writeBoolean(variation.getId() != null);
+				if (variation.getId() != null)
+					writeString(out, variation.getId());
+				out.writeInt(variation.getInsertPoint());
+				writeTags(out, variation.getTags());
+				writeStates(out, variation.getBlockStates());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Writes everything recorded to the snapshot file in the given folder.
+	 *
+	 * @param key The key of the aliases files, see {@link #key(Path)}
+	 */
+	void save(Path folder, String key) {
+		try (DataOutputStream file = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(folder.resolve(FILE_NAME))))) {
+			out.writeByte(END);
+			out.flush();
+			writeString(file, key);
+			bytes.writeTo(file);
+		} catch (IOException e) {
+			Skript.exception(e, "Failed to write the aliases snapshot");
+		}
+	}
+
+	/**
+	 * Adds the aliases and variations of the snapshot file in the given folder to the given provider.
+	 * Nothing is added if the file was written for a different key.
+	 *
+	 * @param key The key of the aliases files, see {@link #key(Path)}
+	 * @return Whether the snapshot was loaded. If it was not, the aliases must be parsed instead.
+	 */
+	static boolean load(Path folder, String key, AliasesProvider provider) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(folder.resolve(FILE_NAME))))) {
+			if (!key.equals(readString(in)))
+				return false;
+			byte type;
+			while ((type = in.readByte()) != END) {
+				switch (type) {
+					case ALIAS -> provider.addAlias(
+						new AliasName(readString(in), readString(in), in.readInt()),
+						readString(in), readTags(in), readStates(in));
+					case VARIATION_GROUP -> {
+						String name = readString(in);
+						VariationGroup group = new VariationGroup();
+						int size = in.readInt();
+						for (int i = 0; i < size; i++) {
+							String variationKey = readString(in);
+							String id = in.readBoolean() ? readString(in) : null;
+							int insertPoint = in.readInt();
+							Map<String, Object> tags = readTags(in);
+							group.put(variationKey, new Variation(id, insertPoint, tags != null ? tags : new HashMap<>(), readStates(in)));
+						}
+						provider.addVariationGroup(name, group);
+					}
+					default -> throw new IOException("Unknown entry type " + type);
+				}
+			}
+			return true;
+		} catch (NoSuchFileException ignored) {
+			return false;
+		} catch (IOException | RuntimeException e) {
+			// the snapshot is corrupt or no longer valid, so remove whatever was added from it
+			Skript.warning("Failed to load the aliases snapshot, parsing the aliases instead: " + e.getMessage());
+			provider.clearAliases();
+			return false;
+		}
+	}
+
+	/**
+	 * Creates the key of the aliases files, which includes everything that may change the aliases they define.
+	 *
+	 * @param folder Skript's data folder
+	 */
+	static String key(Path folder) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+		if (SkriptConfig.loadDefaultAliases.value())
+			update(digest, folder, folder.resolve("aliases-english.zip"));
+		Path aliasesFolder = folder.resolve("aliases");
+		if (Files.exists(aliasesFolder)) {
+			List<Path> files;
+			try (Stream<Path> stream = Files.walk(aliasesFolder)) {
+				files = stream.filter(path -> path.getFileName().toString().endsWith(".sk"))
+					.sorted()
+					.collect(Collectors.toList());
+			}
+			for (Path file : files)
+				update(digest, folder, file);
+		}
+		StringBuilder hash = new StringBuilder(64);
+		for (byte b : digest.digest())
+			hash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		return "Skript aliases " + FORMAT_VERSION + "; Skript " + Skript.getVersion() + "; " + Bukkit.getVersion() + "; " + hash;
+	}
+
+	/**
+	 * Adds the path and contents of the given file to the digest, if the file exists.
+	 */
+	private static void update(MessageDigest digest, Path folder, Path file) throws IOException {
+		if (!Files.isRegularFile(file))
+			return;
+		digest.update(folder.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		try (InputStream in = Files.newInputStream(file)) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1)
+				digest.update(buffer, 0, read);
+		}
+		digest.update((byte) 0);
+	}
+
+	private static void writeTags(DataOutputStream out, @Nullable Map<String, Object> tags) throws IOException {
+		out.writeBoolean(tags != null);
+		if (tags != null)
+			writeString(out, gson.toJson(tags));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static @Nullable Map<String, Object> readTags(DataInputStream in) throws IOException {
+		if (!in.readBoolean())
+			return null;
+		return (Map<String, Object>) gson.fromJson(readString(in), Object.class);
+	}
+
+	private static void writeStates(DataOutputStream out, Map<String, String> states) throws IOException {
+		out.writeInt(states.size());
+		for (Map.Entry<String, String> entry : states.entrySet()) {
+			writeString(out, entry.getKey());
+			writeString(out, entry.getValue());
+		}
+	}
+
+	private static Map<String, String> readStates(DataInputStream in) throws IOException {
+		int size = in.readInt();
+		Map<String, String> states = new HashMap<>();
+		for (int i = 0; i < size; i++)
+			states.put(readString(in), readString(in));
+		return states;
+	}
+
+	/**
+	 * Writes a string of any length, unlike {@link DataOutputStream#writeUTF(String)}.
+	 */
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0)
+			throw new IOException("Invalid string length " + length);
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
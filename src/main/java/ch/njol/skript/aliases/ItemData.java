@@ -330,7 +330,7 @@ public class ItemData implements Cloneable, YggdrasilExtendedSerializable {
 		
 		// See if we need to compare durability; for blocks, BlockValues handles this when needed
 		// From API perspective, durability is part of ItemMeta; however, we need to support 1.12 and older
-		if (itemForm && ItemUtils.getDamage(stack) != ItemUtils.getDamage(item.stack)) {
+		if (itemForm && getDamage() != item.getDamage()) {
 			if (item.hasFlag(ItemFlags.CHANGED_DURABILITY)) { // Given item requests we match its durability
 				quality = MatchQuality.SAME_MATERIAL;
 			} else { // Given item doesn't care about durability, so are still same enough
@@ -484,6 +484,29 @@ public class ItemData implements Cloneable, YggdrasilExtendedSerializable {
 	private boolean hasItemMeta() {
 		return stack != null && stack.hasItemMeta();
 	}
+
+	/**
+	 * Gets the damage of this item without copying its meta when it has none.
+	 */
+	private int getDamage() {
+		return hasItemMeta() ? ItemUtils.getDamage(stack) : 0;
+	}
+
+	/**
+	 * Everything {@link #matchAlias(ItemData)} compares of the item it is called on.
+	 * Items with equal keys match the same aliases equally well.
+	 */
+	record MatchKey(Material type, boolean isAnything, boolean itemForm, int itemFlags, @Nullable ItemMeta meta) {}
+
+	/**
+	 * @return The key of this item for {@link #matchAlias(ItemData)},
+	 * or null if this item has block values, which can not be compared exactly.
+	 */
+	@Nullable MatchKey getMatchKey() {
+		if (blockValues != null && !blockValues.isDefault())
+			return null;
+		return new MatchKey(type, isAnything, itemForm, itemFlags, hasItemMeta() ? getItemMeta() : null);
+	}
 	
 	@Override
 	public ItemData clone() {
@@ -40,6 +40,8 @@ public class ClassInfo<T> implements Debuggable {
 	@Nullable
 	private Cloner<T> cloner = null;
 
+	private boolean immutable = false;
+
 	Pattern @Nullable [] userInputPatterns = null;
   
 	@Nullable
@@ -103,11 +105,23 @@ public class ClassInfo<T> implements Debuggable {
 	 *                  or passing function arguments.
 	 */
 	public ClassInfo<T> cloner(Cloner<T> cloner) {
-		assert this.cloner == null;
+		assert this.cloner == null && !immutable;
 		this.cloner = cloner;
 		return this;
 	}
 
+	/**
+	 * Declares that values of this class can never be changed, or are only ever meant to be passed by reference
+	 * (e.g. players), so that they never have to be cloned when setting variables or passing function arguments.
+	 * This allows skipping the cloning of whole lists of such values.
+	 * Cannot be combined with a {@link #cloner(Cloner) cloner}.
+	 */
+	public ClassInfo<T> immutable() {
+		assert cloner == null;
+		this.immutable = true;
+		return this;
+	}
+
 	/**
 	 * @param userInputPatterns <u>Regex</u> patterns to match this class, e.g. in the expressions loop-[type], random [type] out of ..., or as command arguments. These patterns
 	 *            must be english and match singular and plural.
@@ -306,6 +320,14 @@ public class ClassInfo<T> implements Debuggable {
 		return cloner;
 	}
 
+	/**
+	 * @return Whether values of this class never have to be cloned.
+	 * @see #immutable()
+	 */
+	public boolean isImmutable() {
+		return immutable;
+	}
+
 	/**
 	 * Clones the given object using {@link ClassInfo#cloner},
 	 * returning the given object if no {@link Cloner} is registered.
@@ -465,6 +465,7 @@ public class BukkitClasses {
 				.cloner(Vector::clone));
 
 		Classes.registerClass(new ClassInfo<>(World.class, "world")
+				.immutable()
 				.user("worlds?")
 				.name("World")
 				.description("One of the server's worlds. Worlds can be put into scripts by surrounding their name with double quotes, e.g. \"world_nether\", " +
@@ -603,6 +604,7 @@ public class BukkitClasses {
 				.since("2.2-dev32"));
 
 		Classes.registerClass(new ClassInfo<>(Player.class, "player")
+				.immutable()
 				.user("players?")
 				.name("Player")
 				.description(
@@ -680,6 +682,7 @@ public class BukkitClasses {
 				.serializeAs(OfflinePlayer.class));
 
 		Classes.registerClass(new ClassInfo<>(OfflinePlayer.class, "offlineplayer")
+				.immutable()
 				.user("offline ?players?")
 				.name("Offline Player")
 				.description(
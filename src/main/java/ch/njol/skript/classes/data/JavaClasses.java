@@ -87,6 +87,7 @@ public class JavaClasses {
 				.since("1.0"));
 
 		Classes.registerClass(new ClassInfo<>(Number.class, "number")
+				.immutable()
 				.user("num(ber)?s?")
 				.name("Number")
 				.description(
@@ -107,6 +108,7 @@ public class JavaClasses {
 				.serializer(new NumberSerializer()));
 
 		Classes.registerClass(new ClassInfo<>(Long.class, "long")
+				.immutable()
 				.user("int(eger)?s?")
 				.name(ClassInfo.NO_DOC)
 				.before("integer", "short", "byte")
@@ -115,12 +117,14 @@ public class JavaClasses {
 				.serializer(new LongSerializer()));
 
 		Classes.registerClass(new ClassInfo<>(Integer.class, "integer")
+				.immutable()
 				.name(ClassInfo.NO_DOC)
 				.defaultExpression(new SimpleLiteral<>(1, true))
 				.parser(new IntegerParser())
 				.serializer(new IntegerSerializer()));
 
 		Classes.registerClass(new ClassInfo<>(Double.class, "double")
+				.immutable()
 				.name(ClassInfo.NO_DOC)
 				.defaultExpression(new SimpleLiteral<>(1., true))
 				.after("long")
@@ -129,12 +133,14 @@ public class JavaClasses {
 				.serializer(new DoubleSerializer()));
 
 		Classes.registerClass(new ClassInfo<>(Float.class, "float")
+				.immutable()
 				.name(ClassInfo.NO_DOC)
 				.defaultExpression(new SimpleLiteral<>(1f, true))
 				.parser(new FloatParser())
 				.serializer(new FloatSerializer()));
 
 		Classes.registerClass(new ClassInfo<>(Boolean.class, "boolean")
+				.immutable()
 				.user("booleans?")
 				.name("Boolean")
 				.description("A boolean is a value that is either true or false. Other accepted names are 'on' and 'yes' for true, and 'off' and 'no' for false.")
@@ -200,18 +206,21 @@ public class JavaClasses {
 				}));
 
 		Classes.registerClass(new ClassInfo<>(Short.class, "short")
+				.immutable()
 				.name(ClassInfo.NO_DOC)
 				.defaultExpression(new SimpleLiteral<>((short) 1, true))
 				.parser(new ShortParser())
 				.serializer(new ShortSerializer()));
 
 		Classes.registerClass(new ClassInfo<>(Byte.class, "byte")
+				.immutable()
 				.name(ClassInfo.NO_DOC)
 				.defaultExpression(new SimpleLiteral<>((byte) 1, true))
 				.parser(new ByteParser())
 				.serializer(new ByteSerializer()));
 
 		Classes.registerClass(new ClassInfo<>(String.class, "string")
+				.immutable()
 				.user("(text|string)s?")
 				.name("Text")
 				.description("Text is simply text, i.e. a sequence of characters, which can optionally contain expressions which will be replaced with a meaningful representation " +
@@ -329,6 +338,7 @@ public class JavaClasses {
 				}));
 
 		Classes.registerClass(new ClassInfo<>(UUID.class, "uuid")
+			.immutable()
 			.user("uuids?")
 			.name("UUID")
 			.description(
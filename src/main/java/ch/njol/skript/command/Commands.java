@@ -35,11 +35,11 @@ import org.skriptlang.skript.lang.script.Script;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.regex.Pattern;
@@ -61,7 +61,7 @@ public abstract class Commands {
 	 */
 	public static final int CONVERTER_NO_COMMAND_ARGUMENTS = 8;
 
-	private final static Map<String, ScriptCommand> commands = new HashMap<>();
+	private final static Map<String, ScriptCommand> commands = new ConcurrentHashMap<>();
 
 	@Nullable
 	private static SimpleCommandMap commandMap = null;
@@ -109,8 +109,41 @@ public abstract class Commands {
 		}
 	}
 
-	@Nullable
-	public static List<Argument<?>> currentArguments = null;
+	/**
+	 * The arguments of the command that was loaded last, on any thread.
+	 * This is not reliable when scripts are loaded in parallel, as several commands may be loaded at the same time.
+	 * Setting it has no effect on the arguments Skript uses.
+	 *
+	 * @deprecated Use {@link #getCurrentArguments()} instead.
+	 */
+	@Deprecated(forRemoval = true)
+	public static @Nullable List<Argument<?>> currentArguments = null;
+
+	/**
+	 * The arguments of the command currently being loaded on this thread.
+	 */
+	private static final ThreadLocal<List<Argument<?>>> threadArguments = new ThreadLocal<>();
+
+	/**
+	 * @return The arguments of the command currently being loaded on this thread, or null if no command is being loaded.
+	 */
+	public static @Nullable List<Argument<?>> getCurrentArguments() {
+		return threadArguments.get();
+	}
+
+	/**
+	 * Sets the arguments of the command currently being loaded on this thread.
+	 * @param arguments The arguments, or null once the command has been loaded.
+	 */
+	@SuppressWarnings("removal")
+	public static void setCurrentArguments(@Nullable List<Argument<?>> arguments) {
+		if (arguments == null) {
+			threadArguments.remove();
+		} else {
+			threadArguments.set(arguments);
+		}
+		currentArguments = arguments;
+	}
 
 	@SuppressWarnings("null")
 	private final static Pattern escape = Pattern.compile("[" + Pattern.quote("(|)<>%\\") + "]");
@@ -229,7 +262,7 @@ public abstract class Commands {
 		return scriptCommand != null && scriptCommand.getName().equals(command);
 	}
 
-	public static void registerCommand(ScriptCommand command) {
+	public static synchronized void registerCommand(ScriptCommand command) {
 		// Validate that there are no duplicates
 		ScriptCommand existingCommand = commands.get(command.getLabel());
 		if (existingCommand != null && existingCommand.getLabel().equals(command.getLabel())) {
@@ -263,7 +296,7 @@ public abstract class Commands {
 		return numCommands;
 	}
 
-	public static void unregisterCommand(ScriptCommand scriptCommand) {
+	public static synchronized void unregisterCommand(ScriptCommand scriptCommand) {
 		scriptCommand.unregisterHelp();
 		if (commandMap != null) {
 			assert cmKnownCommands != null;// && cmAliases != null;
@@ -591,6 +591,13 @@ public class ScriptCommand implements TabExecutor {
 		return trigger.getScript();
 	}
 
+	/**
+	 * @return The trigger containing the code of this command.
+	 */
+	public Trigger getTrigger() {
+		return trigger;
+	}
+
 	@Nullable
 	@Override
 	public List<String> onTabComplete(@Nullable CommandSender sender, @Nullable Command command, @Nullable String alias, @Nullable String[] args) {
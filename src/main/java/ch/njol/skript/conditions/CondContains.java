@@ -12,6 +12,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Condition;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.Variable;
 import ch.njol.skript.lang.util.SimpleExpression;
 import org.skriptlang.skript.lang.comparator.Comparators;
 import ch.njol.util.Kleenean;
@@ -146,6 +147,12 @@ public class CondContains extends Condition {
 			default -> {
 				assert checkType == CheckType.OBJECTS;
 				yield items.check(event, o1 -> {
+					// unconverted list variables may be able to look up the value directly
+					if (containers instanceof Variable<?> variable && variable.isList() && variable.getReturnType() == Object.class) {
+						Boolean contains = variable.containsValue(event, o1);
+						if (contains != null)
+							return contains;
+					}
 					for (Object o2 : containerValues) {
 						if (Comparators.compare(o1, o2) == Relation.EQUAL)
 							return true;
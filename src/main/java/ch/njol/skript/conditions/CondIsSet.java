@@ -14,6 +14,7 @@ import ch.njol.skript.lang.Condition;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionList;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.util.Kleenean;
 
 /**
@@ -26,7 +27,7 @@ import ch.njol.util.Kleenean;
 		"	projectile exists",
 		"	broadcast \"%attacker% used a %projectile% to attack %victim%!\""})
 @Since("1.2")
-public class CondIsSet extends Condition implements VerboseAssert {
+public class CondIsSet extends Condition implements VerboseAssert, ThreadSafeSyntax {
 	static {
 		Skript.registerCondition(CondIsSet.class,
 				"%~objects% (exist[s]|(is|are) set)",
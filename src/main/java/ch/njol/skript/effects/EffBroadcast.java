@@ -81,16 +81,18 @@ public class EffBroadcast extends Effect {
 			for (World world : worlds.getArray(event))
 				receivers.addAll(world.getPlayers());
 		}
+		// the same recipients are passed to the event of every message
+		Set<CommandSender> recipients = Collections.unmodifiableSet(new HashSet<>(receivers));
 
 		for (Expression<?> message : getMessages()) {
 			if (message instanceof VariableString) {
-				if (!dispatchEvent(getRawString(event, (VariableString) message), receivers))
+				if (!dispatchEvent(getRawString(event, (VariableString) message), recipients))
 					continue;
 				BaseComponent[] components = BungeeConverter.convert(((VariableString) message).getMessageComponents(event));
 				receivers.forEach(receiver -> receiver.spigot().sendMessage(components));
 			} else if (message instanceof ExprColoured && ((ExprColoured) message).isUnsafeFormat()) { // Manually marked as trusted
 				for (Object realMessage : message.getArray(event)) {
-					if (!dispatchEvent(Utils.replaceChatStyles((String) realMessage), receivers))
+					if (!dispatchEvent(Utils.replaceChatStyles((String) realMessage), recipients))
 						continue;
 					BaseComponent[] components = BungeeConverter.convert(ChatMessages.parse((String) realMessage));
 					receivers.forEach(receiver -> receiver.spigot().sendMessage(components));
@@ -98,7 +100,7 @@ public class EffBroadcast extends Effect {
 			} else {
 				for (Object messageObject : message.getArray(event)) {
 					String realMessage = messageObject instanceof String ? (String) messageObject : Classes.toString(messageObject);
-					if (!dispatchEvent(Utils.replaceChatStyles(realMessage), receivers))
+					if (!dispatchEvent(Utils.replaceChatStyles(realMessage), recipients))
 						continue;
 					receivers.forEach(receiver -> receiver.sendMessage(realMessage));
 				}
@@ -121,11 +123,11 @@ public class EffBroadcast extends Effect {
 	/**
 	 * Manually calls a {@link BroadcastMessageEvent}.
 	 * @param message the message
+	 * @param recipients the unmodifiable recipients of the message
 	 * @return true if the dispatched event does not get cancelled
 	 */
 	@SuppressWarnings("deprecation")
-	private static boolean dispatchEvent(String message, List<CommandSender> receivers) {
-		Set<CommandSender> recipients = Collections.unmodifiableSet(new HashSet<>(receivers));
+	private static boolean dispatchEvent(String message, Set<CommandSender> recipients) {
 		BroadcastMessageEvent broadcastEvent;
 		if (Skript.isRunningMinecraft(1, 14)) {
 			broadcastEvent = new BroadcastMessageEvent(!Bukkit.isPrimaryThread(), message, recipients);
@@ -55,7 +55,7 @@ import ch.njol.util.Kleenean;
 		"reset walk speed of player",
 		"reset chunk at the targeted block"})
 @Since("1.0 (set, add, remove, delete), 2.0 (remove all)")
-public class EffChange extends Effect {
+public class EffChange extends Effect implements ThreadSafeSyntax {
 	private static Patterns<ChangeMode> patterns = new Patterns<>(new Object[][] {
 			{"(add|give) %objects% to %~objects%", ChangeMode.ADD},
 			{"increase %~objects% by %objects%", ChangeMode.ADD},
@@ -9,6 +9,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.*;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.lang.parser.ParserInstance;
+import ch.njol.skript.sections.SecAsync;
 import ch.njol.util.Kleenean;
 import ch.njol.util.StringUtils;
 import org.bukkit.event.Event;
@@ -77,6 +78,10 @@ public class EffContinue extends Effect {
         List<TriggerSection> innerSections = parser.getSections(levels, LoopSection.class);
 		breakLevels = innerSections.size();
 		loop = (LoopSection) innerSections.remove(0);
+		if (SecAsync.exitsThread(innerSections)) {
+			Skript.error("Code in an async or sync section can't continue a loop outside of it, as that runs on a different thread");
+			return false;
+		}
 		sectionsToExit = innerSections.stream()
 			.filter(SectionExitHandler.class::isInstance)
 			.map(SectionExitHandler.class::cast)
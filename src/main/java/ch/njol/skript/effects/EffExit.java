@@ -9,6 +9,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.*;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.lang.parser.ParserInstance;
+import ch.njol.skript.sections.SecAsync;
 import ch.njol.skript.sections.SecConditional;
 import ch.njol.util.Kleenean;
 import org.bukkit.event.Event;
@@ -89,6 +90,12 @@ public class EffExit extends Effect {
 			}
 		}
         assert innerSections != null;
+		// when stopping the trigger, the code doesn't continue after the outermost section
+		if (SecAsync.exitsThread(outerSection == null ? innerSections : innerSections.subList(1, innerSections.size()))) {
+			Skript.error("Code in an async or sync section can't stop code outside of it, as that runs on a different thread. "
+				+ "Stop the async or sync section itself instead.");
+			return false;
+		}
 		sectionsToExit = innerSections.stream()
 			.filter(SectionExitHandler.class::isInstance)
 			.map(SectionExitHandler.class::cast)
@@ -1,11 +1,11 @@
 package ch.njol.skript.effects;
 
-import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import ch.njol.skript.registrations.Classes;
 import ch.njol.skript.util.LiteralUtils;
-import ch.njol.skript.util.chat.MessageComponent;
 import ch.njol.util.coll.CollectionUtils;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -71,6 +71,11 @@ public class EffMessage extends Effect {
 	
 	@Nullable
 	private Expression<Player> sender;
+
+	/**
+	 * The converted components of the messages that do not change between executions.
+	 */
+	private final Map<VariableString, BaseComponent[]> simpleComponents = new ConcurrentHashMap<>();
 	
 	@SuppressWarnings({"unchecked", "null"})
 	@Override
@@ -93,41 +98,53 @@ public class EffMessage extends Effect {
 
 		for (Expression<?> message : getMessages()) {
 
+			// the message is only evaluated and converted once, and then sent to every receiver
 			Object[] messageArray = null;
-			List<MessageComponent> messageComponents = null;
+			BaseComponent[][] components = null;
+			String[] strings = null;
 
 			for (CommandSender receiver : commandSenders) {
-				if (receiver instanceof Player && message instanceof VariableString) {
-					if (messageComponents == null)
-						messageComponents = ((VariableString) message).getMessageComponents(e);
-				} else {
-					if (messageArray == null)
-						messageArray = message.getArray(e);
-				}
-
-				if (receiver instanceof Player) { // Can use JSON formatting
-					if (message instanceof VariableString) { // Process formatting that is safe
-						sendMessage((Player) receiver, sender,
-							BungeeConverter.convert(messageComponents)
-						);
-					} else if (message instanceof ExprColoured && ((ExprColoured) message).isUnsafeFormat()) { // Manually marked as trusted
-						for (Object object : messageArray) {
-							sendMessage((Player) receiver, sender, BungeeConverter.convert(ChatMessages.parse((String) object)));
-						}
-					} else { // It is just a string, no idea if it comes from a trusted source -> don't parse anything
-						for (Object object : messageArray) {
-							List<MessageComponent> components = ChatMessages.fromParsedString(toString(object));
-							sendMessage((Player) receiver, sender, BungeeConverter.convert(components));
+				if (receiver instanceof Player player) { // Can use JSON formatting
+					if (components == null) {
+						if (message instanceof VariableString variableString) {
+							components = new BaseComponent[][] {getComponents(variableString, e)};
+						} else {
+							if (messageArray == null)
+								messageArray = message.getArray(e);
+							components = new BaseComponent[messageArray.length][];
+							for (int i = 0; i < messageArray.length; i++)
+								components[i] = getComponents(message, messageArray[i]);
 						}
 					}
+					for (BaseComponent[] component : components)
+						sendMessage(player, sender, component);
 				} else { // Not a player, send plain text with legacy formatting
-					for (Object object : messageArray) {
-						receiver.sendMessage(toString(object));
+					if (strings == null) {
+						if (messageArray == null)
+							messageArray = message.getArray(e);
+						strings = new String[messageArray.length];
+						for (int i = 0; i < messageArray.length; i++)
+							strings[i] = toString(messageArray[i]);
 					}
+					for (String string : strings)
+						receiver.sendMessage(string);
 				}
 			}
 		}
 	}
+
+	private BaseComponent[] getComponents(VariableString message, Event event) {
+		if (message.isSimple()) // the message is constant, so it only has to be converted once
+			return simpleComponents.computeIfAbsent(message, string -> BungeeConverter.convert(string.getMessageComponents(event)));
+		return BungeeConverter.convert(message.getMessageComponents(event));
+	}
+
+	private BaseComponent[] getComponents(Expression<?> message, Object object) {
+		if (message instanceof ExprColoured && ((ExprColoured) message).isUnsafeFormat()) // Manually marked as trusted
+			return BungeeConverter.convert(ChatMessages.parse((String) object));
+		// It is just a string, no idea if it comes from a trusted source -> don't parse anything
+		return BungeeConverter.convert(ChatMessages.fromParsedString(toString(object)));
+	}
 	
 	private void sendMessage(Player receiver, @Nullable Player sender, BaseComponent... components) {
 		if (SUPPORTS_SENDER && sender != null)
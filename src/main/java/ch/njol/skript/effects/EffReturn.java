@@ -12,6 +12,7 @@ import ch.njol.skript.lang.parser.ParserInstance;
 import ch.njol.skript.log.RetainingLogHandler;
 import ch.njol.skript.log.SkriptLogger;
 import ch.njol.skript.registrations.Classes;
+import ch.njol.skript.sections.SecAsync;
 import ch.njol.util.Kleenean;
 import org.bukkit.event.Event;
 import org.jetbrains.annotations.Nullable;
@@ -84,6 +85,10 @@ public class EffReturn extends Effect {
 		value = convertedExpr;
 
 		List<TriggerSection> innerSections = parser.getSectionsUntil((TriggerSection) handler);
+		if (SecAsync.exitsThread(innerSections)) {
+			Skript.error("A return statement can't be used in an async or sync section, as the code it returns to runs on a different thread");
+			return false;
+		}
 		innerSections.add(0, (TriggerSection) handler);
 		breakLevels = innerSections.size();
 		sectionsToExit = innerSections.stream()
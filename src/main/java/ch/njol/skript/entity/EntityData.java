@@ -519,14 +519,11 @@ public abstract class EntityData<E extends Entity> implements SyntaxElement, Ygg
 		List<E> list = new ArrayList<>();
 		if (worlds == null)
 			worlds = Bukkit.getWorlds().toArray(new World[0]);
+		EntityDataMatcher matcher = new EntityDataMatcher(types);
 		for (World world : worlds) {
 			for (E entity : world.getEntitiesByClass(type)) {
-				for (EntityData<?> entityData : types) {
-					if (entityData.isInstance(entity)) {
-						list.add(entity);
-						break;
-					}
-				}
+				if (matcher.test(entity))
+					list.add(entity);
 			}
 		}
 		return list.toArray((E[]) Array.newInstance(type, list.size()));
@@ -536,14 +533,11 @@ public abstract class EntityData<E extends Entity> implements SyntaxElement, Ygg
 	public static <E extends Entity> E[] getAll(EntityData<?>[] types, Class<E> type, Chunk[] chunks) {
 		assert types.length > 0;
 		List<E> list = new ArrayList<>();
+		EntityDataMatcher matcher = new EntityDataMatcher(types);
 		for (Chunk chunk : chunks) {
 			for (Entity entity : chunk.getEntities()) {
-				for (EntityData<?> entityData : types) {
-					if (entityData.isInstance(entity)) {
-						list.add(((E) entity));
-						break;
-					}
-				}
+				if (matcher.test(entity))
+					list.add(((E) entity));
 			}
 		}
 		return list.toArray((E[]) Array.newInstance(type, list.size()));
@@ -0,0 +1,65 @@
+package ch.njol.skript.entity;
+
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Matches entities against any of several entity datas.
+ * <p>
+ * The entity datas are bucketed by the classes of the entities they are tested against,
+ * so an entity is only checked precisely against the entity datas its class can be an instance of,
+ * and entities of unrelated classes are rejected without checking any entity data.
+ * This makes it cheap to filter large amounts of entities, e.g. to pass to
+ * {@link org.bukkit.World#getNearbyEntities(org.bukkit.Location, double, double, double, Predicate)}.
+ */
+public final class EntityDataMatcher implements Predicate<Entity> {
+
+	private static final EntityData<?>[] NO_DATA = new EntityData[0];
+
+	private final EntityData<?>[] types;
+
+	/**
+	 * The entity datas that entities of a class may be instances of.
+	 */
+	private final Map<Class<?>, EntityData<?>[]> candidates = new ConcurrentHashMap<>();
+
+	public EntityDataMatcher(EntityData<?>... types) {
+		this.types = types.clone();
+	}
+
+	/**
+	 * @return Whether the given entity is an instance of any of the entity datas of this matcher.
+	 * @see EntityData#isInstance(Entity)
+	 */
+	@Override
+	public boolean test(@Nullable Entity entity) {
+		if (entity == null)
+			return false;
+		for (EntityData<?> type : getCandidates(entity.getClass())) {
+			if (type.isInstance(entity))
+				return true;
+		}
+		return false;
+	}
+
+	private EntityData<?>[] getCandidates(Class<?> entityClass) {
+		EntityData<?>[] candidates = this.candidates.get(entityClass);
+		if (candidates == null) {
+			List<EntityData<?>> list = new ArrayList<>(types.length);
+			for (EntityData<?> type : types) {
+				if (type.getType().isAssignableFrom(entityClass))
+					list.add(type);
+			}
+			candidates = list.isEmpty() ? NO_DATA : list.toArray(new EntityData[0]);
+			this.candidates.put(entityClass, candidates);
+		}
+		return candidates;
+	}
+
+}
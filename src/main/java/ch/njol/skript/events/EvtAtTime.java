@@ -7,6 +7,8 @@ import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptEvent;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
 import ch.njol.skript.registrations.Classes;
+import ch.njol.skript.util.PeriodicalScheduler;
+import ch.njol.skript.util.PeriodicalScheduler.ScheduledTask;
 import ch.njol.skript.util.Time;
 import ch.njol.util.Math2;
 import org.bukkit.Bukkit;
@@ -83,9 +85,9 @@ public class EvtAtTime extends SkriptEvent implements Comparable<EvtAtTime> {
 				iterator.remove();
 		}
 
-		if (taskID != -1 && TRIGGERS.isEmpty()) { // Unregister Bukkit listener if possible
-			Bukkit.getScheduler().cancelTask(taskID);
-			taskID = -1;
+		if (task != null && TRIGGERS.isEmpty()) { // Unregister listener if possible
+			task.cancel();
+			task = null;
 		}
 	}
 
@@ -99,14 +101,14 @@ public class EvtAtTime extends SkriptEvent implements Comparable<EvtAtTime> {
 		return false;
 	}
 
-	private static int taskID = -1;
+	private static @Nullable ScheduledTask task;
 	
 	private static void registerListener() {
-		if (taskID != -1)
+		if (task != null)
 			return;
 		// For each world:
 		// check each instance in order until triggerTime > (worldTime + period)
-		taskID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Skript.getInstance(), () -> {
+		task = PeriodicalScheduler.schedule(CHECK_PERIOD, 1, false, () -> {
 			for (Entry<World, EvtAtInfo> entry : TRIGGERS.entrySet()) {
 				EvtAtInfo info = entry.getValue();
 				int worldTime = (int) entry.getKey().getTime();
@@ -151,7 +153,7 @@ public class EvtAtTime extends SkriptEvent implements Comparable<EvtAtTime> {
 				}
 				info.lastCheckedTime = worldTime;
 			}
-		}, 0, CHECK_PERIOD);
+		});
 	}
 	
 	@Override
@@ -163,5 +165,10 @@ public class EvtAtTime extends SkriptEvent implements Comparable<EvtAtTime> {
 	public int compareTo(@Nullable EvtAtTime event) {
 		return event == null ? time : time - event.time;
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
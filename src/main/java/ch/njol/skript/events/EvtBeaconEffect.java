@@ -66,4 +66,9 @@ public class EvtBeaconEffect extends SkriptEvent {
 			"beacon effect" + (potionTypes == null ? "" : " of " + potionTypes.toString(event, debug));
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -55,4 +55,9 @@ public class EvtBeaconToggle extends SkriptEvent {
 		return "beacon " + (isToggle ? "toggle" : isActivate ? "activate" : "deactivate");
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -149,5 +149,10 @@ public class EvtBlock extends SkriptEvent {
 	public String toString(@Nullable Event event, boolean debug) {
 		return "break/place/burn/fade/form/drop of " + Classes.toString(types);
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
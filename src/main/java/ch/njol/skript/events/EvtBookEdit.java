@@ -34,4 +34,9 @@ public class EvtBookEdit extends SkriptEvent{
 	public String toString(@Nullable Event e, boolean debug) {
 		return "book edit";
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 }
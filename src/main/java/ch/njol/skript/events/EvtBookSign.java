@@ -34,4 +34,9 @@ public class EvtBookSign extends SkriptEvent{
 	public String toString(@Nullable Event e, boolean debug) {
 		return "book sign";
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 }
@@ -203,4 +203,9 @@ public class EvtClick extends SkriptEvent {
 			(tools != null ? " holding " + tools.toString(event, debug) : "");
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -70,5 +70,10 @@ public class EvtCommand extends SkriptEvent { // TODO condition to check whether
 	public String toString(@Nullable Event event, boolean debug) {
 		return "command" + (commandsLit != null ? " " + commandsLit.toString(event, debug) : "");
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
@@ -134,4 +134,9 @@ public class EvtDamage extends SkriptEvent {
 		}, Skript.getInstance());
 	}
 	//	*/
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 }
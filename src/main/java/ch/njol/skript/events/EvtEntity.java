@@ -86,5 +86,10 @@ public final class EvtEntity extends SkriptEvent {
 	public String toString(final @Nullable Event e, final boolean debug) {
 		return (spawn ? "spawn" : "death") + (types != null ? " of " + Classes.toString(types, false) : "");
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
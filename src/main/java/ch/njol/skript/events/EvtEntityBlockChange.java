@@ -106,4 +106,9 @@ public class EvtEntityBlockChange extends SkriptEvent {
 		return this.event.name().toLowerCase(Locale.ENGLISH).replace('_', ' ');
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -53,4 +53,9 @@ public class EvtEntityPotion extends SkriptEvent {
 	public String toString(@Nullable Event event, boolean debug) {
 		return "on entity potion effect modification";
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 }
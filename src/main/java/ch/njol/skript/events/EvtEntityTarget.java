@@ -38,5 +38,10 @@ public class EvtEntityTarget extends SkriptEvent {
 	public String toString(final @Nullable Event e, final boolean debug) {
 		return "entity " + (target ? "" : "un") + "target";
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
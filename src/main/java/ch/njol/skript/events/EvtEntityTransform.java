@@ -58,4 +58,9 @@ public class EvtEntityTransform extends SkriptEvent {
 		return datas.toString(event, debug) + " transforming" + (reasons == null ? "" : " due to " + reasons.toString(event, debug));
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
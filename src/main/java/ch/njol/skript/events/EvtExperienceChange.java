@@ -51,4 +51,9 @@ public class EvtExperienceChange extends SkriptEvent {
 		return "player level progress " + (mode == ANY ? "change" : mode == UP ? "increase" : "decrease");
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
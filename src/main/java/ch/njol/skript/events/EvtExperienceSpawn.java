@@ -138,5 +138,10 @@ public class EvtExperienceSpawn extends SkriptEvent {
 	public String toString(@Nullable Event event, boolean debug) {
 		return "experience spawn";
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
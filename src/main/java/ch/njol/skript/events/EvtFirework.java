@@ -79,4 +79,9 @@ public class EvtFirework extends SkriptEvent {
 		return builder.toString();
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -35,5 +35,10 @@ public class EvtFirstJoin extends SkriptEvent {
 	public String toString(final @Nullable Event e, final boolean debug) {
 		return "first join";
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
@@ -47,4 +47,9 @@ public final class EvtGameMode extends SkriptEvent {
 		return "gamemode change" + (mode != null ? " to " + mode.toString().toLowerCase(Locale.ENGLISH) : "");
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
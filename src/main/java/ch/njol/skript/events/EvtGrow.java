@@ -210,5 +210,10 @@ public class EvtGrow extends SkriptEvent {
 		}
 		return "grow";
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
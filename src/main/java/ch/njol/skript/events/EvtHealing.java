@@ -79,4 +79,9 @@ public class EvtHealing extends SkriptEvent {
 				(healReasons != null ? " by " + healReasons.toString(event, debug) : "");
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -212,5 +212,10 @@ public class EvtItem extends SkriptEvent {
 	public String toString(@Nullable Event event, boolean debug) {
 		return "dispense/spawn/drop/craft/pickup/consume/break/despawn/merge/move/stonecutting" + (types == null ? "" : " of " + types);
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
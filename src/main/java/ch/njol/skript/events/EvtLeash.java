@@ -123,4 +123,9 @@ public class EvtLeash extends SkriptEvent {
 		return eventType + (types != null ? " of " + Classes.toString(types, false) : "");
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
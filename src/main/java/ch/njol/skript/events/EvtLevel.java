@@ -43,4 +43,9 @@ public class EvtLevel extends SkriptEvent {
 	public String toString(@Nullable Event e, boolean debug) {
 		return "level " + (leveling.isTrue() ? "up" : leveling.isFalse() ? "down" : "change");
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 }
@@ -137,4 +137,9 @@ public class EvtMove extends SkriptEvent {
 		return from.getYaw() != to.getYaw() || from.getPitch() != to.getPitch();
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
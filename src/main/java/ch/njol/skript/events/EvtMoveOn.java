@@ -179,4 +179,9 @@ public class EvtMoveOn extends SkriptEvent {
 		return "walk on " + Classes.toString(types, false);
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
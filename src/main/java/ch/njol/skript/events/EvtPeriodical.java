@@ -1,14 +1,16 @@
 package ch.njol.skript.events;
 
 import ch.njol.skript.Skript;
+import ch.njol.skript.SkriptConfig;
 import ch.njol.skript.SkriptEventHandler;
 import ch.njol.skript.events.bukkit.ScheduledEvent;
 import ch.njol.skript.events.bukkit.ScheduledNoWorldEvent;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptEvent;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.util.PeriodicalScheduler;
+import ch.njol.skript.util.PeriodicalScheduler.ScheduledTask;
 import ch.njol.skript.util.Timespan;
-import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.event.Event;
 import org.jetbrains.annotations.Nullable;
@@ -17,7 +19,9 @@ public class EvtPeriodical extends SkriptEvent {
 
 	static {
 		Skript.registerEvent("*Periodical", EvtPeriodical.class, ScheduledNoWorldEvent.class, "every %timespan%")
-				.description("An event that is called periodically.")
+				.description("An event that is called periodically.",
+					"If 'stagger periodical events' is enabled in the config, events with the same period may be delayed by a few ticks, " +
+						"so that they don't all run in the same tick.")
 				.examples(
 					"every 2 seconds:",
 					"every minecraft hour:",
@@ -39,7 +43,7 @@ public class EvtPeriodical extends SkriptEvent {
 	private Timespan period;
 
 	@SuppressWarnings("NotNullFieldNotInitialized")
-	private int[] taskIDs;
+	private ScheduledTask[] tasks;
 
 	private World @Nullable [] worlds;
 
@@ -54,20 +58,21 @@ public class EvtPeriodical extends SkriptEvent {
 
 	@Override
 	public boolean postLoad() {
-		long ticks = period.getAs(Timespan.TimePeriod.TICK);
+		long ticks = Math.max(period.getAs(Timespan.TimePeriod.TICK), 1);
 
 		if (worlds == null) {
-			taskIDs = new int[]{
-				Bukkit.getScheduler().scheduleSyncRepeatingTask(
-					Skript.getInstance(), () -> execute(null), ticks, ticks
+			tasks = new ScheduledTask[]{
+				PeriodicalScheduler.schedule(
+					ticks, ticks, SkriptConfig.staggerPeriodicalEvents.value(), () -> execute(null)
 				)
 			};
 		} else {
-			taskIDs = new int[worlds.length];
+			// events in worlds are aligned to the time of the world, so they are never staggered
+			tasks = new ScheduledTask[worlds.length];
 			for (int i = 0; i < worlds.length; i++) {
 				World world = worlds[i];
-				taskIDs[i] = Bukkit.getScheduler().scheduleSyncRepeatingTask(
-					Skript.getInstance(), () -> execute(world), ticks - (world.getFullTime() % ticks), ticks
+				tasks[i] = PeriodicalScheduler.schedule(
+					ticks, ticks - (world.getFullTime() % ticks), false, () -> execute(world)
 				);
 			}
 		}
@@ -77,8 +82,8 @@ public class EvtPeriodical extends SkriptEvent {
 
 	@Override
 	public void unload() {
-		for (int taskID : taskIDs)
-			Bukkit.getScheduler().cancelTask(taskID);
+		for (ScheduledTask task : tasks)
+			task.cancel();
 	}
 
 	@Override
@@ -104,5 +109,10 @@ public class EvtPeriodical extends SkriptEvent {
 		SkriptEventHandler.logTriggerEnd(trigger);
 		SkriptEventHandler.logEventEnd();
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
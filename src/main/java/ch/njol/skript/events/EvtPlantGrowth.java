@@ -47,4 +47,9 @@ public class EvtPlantGrowth extends SkriptEvent {
 	public String toString(@Nullable Event e, boolean debug) {
 		return "plant growth";
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 }
@@ -35,4 +35,9 @@ public class EvtPlayerChunkEnter extends SkriptEvent {
 		return "player enter chunk";
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -54,4 +54,9 @@ public class EvtPlayerCommandSend extends SkriptEvent {
 		return "sending of the server command list";
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
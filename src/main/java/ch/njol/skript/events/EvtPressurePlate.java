@@ -64,5 +64,10 @@ public class EvtPressurePlate extends SkriptEvent {
 	public String toString(final @Nullable Event e, final boolean debug) {
 		return tripwire ? "trip" : "stepping on a pressure plate";
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
@@ -57,4 +57,9 @@ public class EvtResourcePackResponse extends SkriptEvent {
 		return states != null ? "resource pack " + states.toString(e, debug) : "resource pack request response";
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -50,6 +50,12 @@ public class EvtScript extends SkriptEvent {
 			runTrigger(trigger, new ScriptEvent());
 	}
 
+	@Override
+	public boolean isReusable() {
+		// this trigger is expected to run whenever the script is reloaded
+		return false;
+	}
+
 	@Override
 	public boolean check(Event event) {
 		throw new UnsupportedOperationException();
@@ -85,5 +85,10 @@ public class EvtSkript extends SkriptEvent {
 	public String toString(@Nullable Event event, boolean debug) {
 		return "on skript " + (isStart ? "start" : "stop");
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
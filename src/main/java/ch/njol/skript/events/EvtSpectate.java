@@ -83,4 +83,9 @@ public class EvtSpectate extends SkriptEvent {
 					(datas != null ? "of " + datas.toString(event, debug) : "");
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -72,4 +72,9 @@ public class EvtTeleport extends SkriptEvent {
 		return "on teleport";
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
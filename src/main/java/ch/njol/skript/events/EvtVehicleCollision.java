@@ -115,4 +115,9 @@ public class EvtVehicleCollision extends SkriptEvent {
 		return builder.toString();
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
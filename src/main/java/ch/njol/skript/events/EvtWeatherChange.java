@@ -51,4 +51,9 @@ public class EvtWeatherChange extends SkriptEvent {
 		return "weather change" + (types == null ? "" : " to " + types);
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -75,4 +75,9 @@ public class EvtWorld extends SkriptEvent {
 		return "world save/init/unload/load" + (worlds == null ? "" : " of " + worlds.toString(event,debug));
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -11,6 +11,7 @@ import ch.njol.skript.lang.ExpressionList;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.Variable;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.lang.util.common.AnyAmount;
@@ -41,7 +42,7 @@ import java.util.Map;
 		"Please note that getting a list's recursive size can cause lag if the list is large, so only use this expression if you need to!"})
 @Examples({"message \"There are %number of all players% players online!\""})
 @Since("1.0")
-public class ExprAmount extends SimpleExpression<Number> {
+public class ExprAmount extends SimpleExpression<Number> implements ThreadSafeSyntax {
 
 	static {
 		Skript.registerExpression(ExprAmount.class, Number.class, ExpressionType.PROPERTY,
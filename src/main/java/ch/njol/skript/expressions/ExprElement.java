@@ -9,6 +9,7 @@ import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.registrations.Feature;
 import ch.njol.skript.util.LiteralUtils;
@@ -42,7 +43,7 @@ import java.util.concurrent.ThreadLocalRandom;
 	"broadcast the first 3 elements in {queue}"
 })
 @Since("2.0, 2.7 (relative to last element), 2.8.0 (range of elements)")
-public class ExprElement<T> extends SimpleExpression<T> {
+public class ExprElement<T> extends SimpleExpression<T> implements ThreadSafeSyntax {
 
 	private static final Patterns<ElementType[]> PATTERNS = new Patterns<>(new Object[][]{
 		{"[the] (first|1:last) element [out] of %objects%", new ElementType[] {ElementType.FIRST_ELEMENT, ElementType.LAST_ELEMENT}},
@@ -6,6 +6,7 @@ import ch.njol.skript.doc.Examples;
 import ch.njol.skript.doc.Name;
 import ch.njol.skript.doc.Since;
 import ch.njol.skript.entity.EntityData;
+import ch.njol.skript.entity.EntityDataMatcher;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.Literal;
@@ -15,7 +16,6 @@ import ch.njol.skript.log.BlockingLogHandler;
 import ch.njol.skript.log.LogHandler;
 import ch.njol.util.Kleenean;
 import ch.njol.util.StringUtils;
-import ch.njol.util.coll.iterator.CheckedIterator;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -29,7 +29,6 @@ import org.jetbrains.annotations.UnknownNullability;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
@@ -75,6 +74,11 @@ public class ExprEntities extends SimpleExpression<Entity> {
 	private boolean isUsingRadius;
 	private boolean isUsingCuboid;
 
+	/**
+	 * The matcher of the entity types if they are literal, so that it is only created once.
+	 */
+	private @Nullable EntityDataMatcher literalMatcher;
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean init(Expression<?>[] exprs, int matchedPattern, Kleenean isDelayed, ParseResult parseResult) {
@@ -102,6 +106,8 @@ public class ExprEntities extends SimpleExpression<Entity> {
 		}
 		if (types instanceof Literal && ((Literal<EntityData<?>>) types).getAll().length == 1)
 			returnType = ((Literal<EntityData<?>>) types).getSingle().getType();
+		if (types instanceof Literal)
+			literalMatcher = new EntityDataMatcher(((Literal<EntityData<?>>) types).getAll());
 		return true;
 	}
 
@@ -161,18 +167,13 @@ public class ExprEntities extends SimpleExpression<Entity> {
 			if (location.getWorld() == null) // safety
 				return null;
 
-			Collection<Entity> nearbyEntities = location.getWorld().getNearbyEntities(location, rad, rad, rad);
 			double radiusSquared = rad * rad * Skript.EPSILON_MULT;
-			EntityData<?>[] entityTypes = types.getAll(event);
-			return new CheckedIterator<>(nearbyEntities.iterator(), entity -> {
-					if (entity == null || entity.getLocation().distanceSquared(location) > radiusSquared)
-						return false;
-					for (EntityData<?> entityType : entityTypes) {
-						if (entityType.isInstance(entity))
-							return true;
-					}
-					return false;
-				});
+			EntityDataMatcher matcher = getMatcher(event);
+			// reused for every entity, as the filter is applied while the world is queried
+			Location entityLocation = new Location(null, 0, 0, 0);
+			return location.getWorld().getNearbyEntities(location, rad, rad, rad, entity ->
+					entity.getLocation(entityLocation).distanceSquared(location) <= radiusSquared && matcher.test(entity)
+				).iterator();
 		} else if (isUsingCuboid) {
 			Location corner1 = from.getSingle(event);
 			if (corner1 == null)
@@ -180,22 +181,12 @@ public class ExprEntities extends SimpleExpression<Entity> {
 			Location corner2 = to.getSingle(event);
 			if (corner2 == null)
 				return null;
-			EntityData<?>[] entityTypes = types.getAll(event);
 			World world = corner1.getWorld();
 			if (world == null)
 				world = corner2.getWorld();
 			if (world == null)
 				return null;
-			Collection<Entity> entities = corner1.getWorld().getNearbyEntities(BoundingBox.of(corner1, corner2));
-			return new CheckedIterator<>(entities.iterator(), entity -> {
-				if (entity == null)
-					return false;
-				for (EntityData<?> entityType : entityTypes) {
-					if (entityType.isInstance(entity))
-						return true;
-				}
-				return false;
-			});
+			return corner1.getWorld().getNearbyEntities(BoundingBox.of(corner1, corner2), getMatcher(event)).iterator();
 		} else {
 			if (chunks == null || returnType == Player.class)
 				return super.iterator(event);
@@ -204,6 +195,12 @@ public class ExprEntities extends SimpleExpression<Entity> {
 		}
 	}
 
+	private EntityDataMatcher getMatcher(Event event) {
+		if (literalMatcher != null)
+			return literalMatcher;
+		return new EntityDataMatcher(types.getAll(event));
+	}
+
 	@Override
 	public boolean isSingle() {
 		return false;
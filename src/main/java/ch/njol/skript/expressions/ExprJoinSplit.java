@@ -17,6 +17,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.util.Kleenean;
 import ch.njol.util.StringUtils;
@@ -28,7 +29,7 @@ import ch.njol.util.StringUtils;
 	"set {_s::*} to the string argument split at \",\""
 })
 @Since("2.1, 2.5.2 (regex support), 2.7 (case sensitivity), 2.10 (without trailing string)")
-public class ExprJoinSplit extends SimpleExpression<String> {
+public class ExprJoinSplit extends SimpleExpression<String> implements ThreadSafeSyntax {
 
 	static {
 		Skript.registerExpression(ExprJoinSplit.class, String.class, ExpressionType.COMBINED,
@@ -5,6 +5,7 @@ import ch.njol.skript.doc.Examples;
 import ch.njol.skript.doc.Name;
 import ch.njol.skript.doc.Since;
 import ch.njol.skript.expressions.base.SimplePropertyExpression;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 
 /**
  * @author Peter Güttinger
@@ -13,7 +14,7 @@ import ch.njol.skript.expressions.base.SimplePropertyExpression;
 @Description("The length of a text, in number of characters.")
 @Examples("set {_l} to length of the string argument")
 @Since("2.1")
-public class ExprLength extends SimplePropertyExpression<String, Long> {
+public class ExprLength extends SimplePropertyExpression<String, Long> implements ThreadSafeSyntax {
 	static {
 		register(ExprLength.class, Long.class, "length", "strings");
 	}
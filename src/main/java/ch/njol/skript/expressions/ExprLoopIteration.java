@@ -10,6 +10,7 @@ import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.LoopSection;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.TriggerSection;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.util.Kleenean;
@@ -30,7 +31,7 @@ import org.jetbrains.annotations.Nullable;
 	"\t\tbroadcast \"#%loop-iteration% %loop-index% has $%loop-value%\"",
 })
 @Since("2.8.0")
-public class ExprLoopIteration extends SimpleExpression<Long> {
+public class ExprLoopIteration extends SimpleExpression<Long> implements ThreadSafeSyntax {
 
 	static {
 		Skript.registerExpression(ExprLoopIteration.class, Long.class, ExpressionType.SIMPLE, "[the] loop(-| )(counter|iteration)[-%-*number%]");
@@ -10,6 +10,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.Variable;
 import ch.njol.skript.lang.util.ConvertedExpression;
 import ch.njol.skript.lang.util.SimpleExpression;
@@ -55,7 +56,7 @@ import java.util.regex.Pattern;
 			"\t\t kill all players"
 })
 @Since("1.0, 2.8.0 (loop-counter), 2.10 (previous, next)")
-public class ExprLoopValue extends SimpleExpression<Object> {
+public class ExprLoopValue extends SimpleExpression<Object> implements ThreadSafeSyntax {
 
 	enum LoopState {
 		CURRENT("[current]"),
@@ -18,6 +18,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.util.Kleenean;
 
@@ -33,7 +34,7 @@ import ch.njol.util.Kleenean;
 		"loop integers from 2.9 to 5.1: # same as '3 to 5', i.e. loops 3, 4, 5",
 		"loop decimals from 3.94 to 4: # loops 3.94, 3.95, 3.96, 3.97, 3.98, 3.99, 4"})
 @Since("1.4.6 (integers & numbers), 2.5.1 (decimals)")
-public class ExprNumbers extends SimpleExpression<Number> {
+public class ExprNumbers extends SimpleExpression<Number> implements ThreadSafeSyntax {
 	static {
 		Skript.registerExpression(ExprNumbers.class, Number.class, ExpressionType.COMBINED,
 				"[(all [[of] the]|the)] (numbers|1¦integers|2¦decimals) (between|from) %number% (and|to) %number%");
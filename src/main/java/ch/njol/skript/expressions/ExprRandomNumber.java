@@ -17,6 +17,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.util.Kleenean;
 
@@ -32,7 +33,7 @@ import ch.njol.util.Kleenean;
 		"set {_decimals::*} to 3 random numbers between 2.7 and -1.5"
 })
 @Since("1.4, 2.10 (Multiple random numbers)")
-public class ExprRandomNumber extends SimpleExpression<Number> {
+public class ExprRandomNumber extends SimpleExpression<Number> implements ThreadSafeSyntax {
 
 	static {
 		Skript.registerExpression(ExprRandomNumber.class, Number.class, ExpressionType.COMBINED,
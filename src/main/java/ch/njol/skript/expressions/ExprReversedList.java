@@ -8,6 +8,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.util.LiteralUtils;
 import ch.njol.util.Kleenean;
@@ -21,7 +22,7 @@ import java.lang.reflect.Array;
 @Description("Reverses given list.")
 @Examples({"set {_list::*} to reversed {_list::*}"})
 @Since("2.4")
-public class ExprReversedList extends SimpleExpression<Object> {
+public class ExprReversedList extends SimpleExpression<Object> implements ThreadSafeSyntax {
 
 	static {
 		Skript.registerExpression(ExprReversedList.class, Object.class, ExpressionType.COMBINED, "reversed %objects%");
@@ -13,6 +13,7 @@ import ch.njol.skript.expressions.base.PropertyExpression;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.util.Kleenean;
 import ch.njol.util.Math2;
 
@@ -25,7 +26,7 @@ import ch.njol.util.Math2;
 		"set line 1 of the block to rounded \"%(1.5 * player's level)%\"",
 		"add rounded down argument to the player's health"})
 @Since("2.0")
-public class ExprRound extends PropertyExpression<Number, Long> {
+public class ExprRound extends PropertyExpression<Number, Long> implements ThreadSafeSyntax {
 	static {
 		Skript.registerExpression(ExprRound.class, Long.class, ExpressionType.PROPERTY,
 				"(a|the|) round[ed] down %number%",
@@ -8,6 +8,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.util.LiteralUtils;
 import ch.njol.util.Kleenean;
@@ -24,7 +25,7 @@ import java.lang.reflect.Array;
 @Description("Sorts given list in natural order. All objects in list must be comparable; if they're not, this expression will return nothing.")
 @Examples("set {_sorted::*} to sorted {_players::*}")
 @Since("2.2-dev19")
-public class ExprSortedList extends SimpleExpression<Object> {
+public class ExprSortedList extends SimpleExpression<Object> implements ThreadSafeSyntax {
 
 	static {
 		Skript.registerExpression(ExprSortedList.class, Object.class, ExpressionType.COMBINED, "sorted %objects%");
@@ -12,6 +12,7 @@ import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.util.Kleenean;
 
@@ -32,7 +33,7 @@ import ch.njol.util.Kleenean;
 	"\"What is your name?\" in lower kebab case # what-is-your-name?",
 	"\"What is your name?\" in upper kebab case # WHAT-IS-YOUR-NAME?"})
 @Since("2.2-dev16 (lowercase and uppercase), 2.5 (advanced cases)")
-public class ExprStringCase extends SimpleExpression<String> {
+public class ExprStringCase extends SimpleExpression<String> implements ThreadSafeSyntax {
 	
 	static {
 		Skript.registerExpression(ExprStringCase.class, String.class, ExpressionType.SIMPLE,
@@ -10,6 +10,7 @@ import ch.njol.skript.lang.Expression;
 import ch.njol.skript.lang.ExpressionType;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
 import ch.njol.skript.lang.util.SimpleExpression;
 import ch.njol.skript.lang.util.SimpleLiteral;
 import ch.njol.skript.log.SkriptLogger;
@@ -29,7 +30,7 @@ import java.util.stream.LongStream;
 	"\twait 1 second"
 })
 @Since("1.4.6")
-public class ExprTimes extends SimpleExpression<Long> {
+public class ExprTimes extends SimpleExpression<Long> implements ThreadSafeSyntax {
 
 	static {
 		Skript.registerExpression(ExprTimes.class, Long.class, ExpressionType.SIMPLE,
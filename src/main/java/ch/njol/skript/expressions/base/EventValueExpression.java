@@ -27,9 +27,9 @@ import org.jetbrains.annotations.Nullable;
 import org.skriptlang.skript.lang.converter.Converter;
 
 import java.lang.reflect.Array;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A useful class for creating default expressions. It simply returns the event value of the given type.
@@ -94,7 +94,16 @@ public class EventValueExpression<T> extends SimpleExpression<T> implements Defa
 		Skript.registerExpression(expression, type, ExpressionType.EVENT, "[the] " + pattern);
 	}
 
-	private final Map<Class<? extends Event>, Converter<?, ? extends T>> converters = new HashMap<>();
+	/**
+	 * Marks events without this event value in {@link #converters}, as it can't hold null values.
+	 */
+	private static final Converter<?, ?> NO_CONVERTER = event -> null;
+
+	/**
+	 * The converters of this event value for each event class it has been requested for.
+	 * A concurrent map, as triggers may be run from multiple threads.
+	 */
+	private final Map<Class<? extends Event>, Converter<?, ? extends T>> converters = new ConcurrentHashMap<>();
 
 	private final Class<?> componentType;
 	private final Class<? extends T> type;
@@ -150,7 +159,7 @@ public class EventValueExpression<T> extends SimpleExpression<T> implements Defa
 			}
 			for (Class<? extends Event> event : events) {
 				if (converters.containsKey(event)) {
-					hasValue = converters.get(event) != null;
+					hasValue = converters.get(event) != NO_CONVERTER;
 					continue;
 				}
 				if (EventValues.hasMultipleConverters(event, type, getTime()) == Kleenean.TRUE) {
@@ -202,21 +211,20 @@ public class EventValueExpression<T> extends SimpleExpression<T> implements Defa
 	@Nullable
 	@SuppressWarnings("unchecked")
 	private <E extends Event> T getValue(E event) {
-		if (converters.containsKey(event.getClass())) {
-			final Converter<? super E, ? extends T> g = (Converter<? super E, ? extends T>) converters.get(event.getClass());
-			return g == null ? null : g.convert(event);
-		}
-
-		for (final Entry<Class<? extends Event>, Converter<?, ? extends T>> p : converters.entrySet()) {
-			if (p.getKey().isAssignableFrom(event.getClass())) {
-				converters.put(event.getClass(), p.getValue());
-				return p.getValue() == null ? null : ((Converter<? super E, ? extends T>) p.getValue()).convert(event);
+		Converter<?, ? extends T> converter = converters.get(event.getClass());
+		if (converter == null) {
+			converter = (Converter<?, ? extends T>) NO_CONVERTER;
+			for (Entry<Class<? extends Event>, Converter<?, ? extends T>> entry : converters.entrySet()) {
+				if (entry.getKey().isAssignableFrom(event.getClass())) {
+					converter = entry.getValue();
+					break;
+				}
 			}
+			Converter<?, ? extends T> existing = converters.putIfAbsent(event.getClass(), converter);
+			if (existing != null)
+				converter = existing;
 		}
-
-		converters.put(event.getClass(), null);
-
-		return null;
+		return converter == NO_CONVERTER ? null : ((Converter<? super E, ? extends T>) converter).convert(event);
 	}
 
 	@Override
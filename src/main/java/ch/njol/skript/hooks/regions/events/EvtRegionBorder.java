@@ -11,20 +11,25 @@ import ch.njol.skript.lang.Trigger;
 import ch.njol.skript.registrations.EventValues;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerPortalEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.plugin.EventExecutor;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public class EvtRegionBorder extends SkriptEvent {
@@ -60,10 +65,19 @@ public class EvtRegionBorder extends SkriptEvent {
 			Location to = moveEvent.getTo();
 			Location from = moveEvent.getFrom();
 
-			if (to.equals(from))
+			// region membership is block based, so head rotation and movement within a block can never cross a border
+			if (to.getWorld() == from.getWorld() && to.getBlockX() == from.getBlockX()
+					&& to.getBlockY() == from.getBlockY() && to.getBlockZ() == from.getBlockZ())
 				return;
 
-			Set<? extends Region> oldRegions = RegionsPlugin.getRegionsAt(from);
+			// the cached regions are only valid if the player is still where they were cached,
+			// as players can also move without a move event, e.g. when respawning, or the move may have been cancelled later.
+			// regions plugins don't call events when regions change, so they are also looked up again once the cache is old
+			UUID uuid = moveEvent.getPlayer().getUniqueId();
+			RegionState state = PLAYER_REGIONS.get(uuid);
+			boolean cached = state != null && state.isAt(from) && System.nanoTime() - state.time < MAX_STATE_AGE;
+
+			Set<? extends Region> oldRegions = cached ? state.regions : RegionsPlugin.getRegionsAt(from);
 			Set<? extends Region> newRegions = RegionsPlugin.getRegionsAt(to);
 
 			for (Region oldRegion : oldRegions) {
@@ -75,22 +89,96 @@ public class EvtRegionBorder extends SkriptEvent {
 				if (!oldRegions.contains(newRegion))
 					callEvent(newRegion, moveEvent, true);
 			}
+
+			// a cancelled move keeps the player where they were, so the cached regions stay valid
+			if (moveEvent.isCancelled()) {
+				if (!cached)
+					PLAYER_REGIONS.put(uuid, new RegionState(from, oldRegions));
+			} else {
+				PLAYER_REGIONS.put(uuid, new RegionState(to, newRegions));
+			}
 		}
 	};
 
 	private static void callEvent(Region region, PlayerMoveEvent event, boolean enter) {
 		RegionBorderEvent regionEvent = new RegionBorderEvent(region, event.getPlayer(), enter);
+		Trigger[] triggers = getTriggers(regionEvent);
+		if (triggers.length == 0)
+			return;
 		regionEvent.setCancelled(event.isCancelled());
+		for (Trigger trigger : triggers)
+			trigger.execute(regionEvent);
+		event.setCancelled(regionEvent.isCancelled());
+	}
+
+	/**
+	 * Returns the triggers which apply to the given event, in registration order.
+	 * The result is cached per region and direction until the registered triggers change.
+	 */
+	private static Trigger[] getTriggers(RegionBorderEvent event) {
+		Map<Region, Trigger[]> index = event.isEntering() ? ENTER_INDEX : LEAVE_INDEX;
 		synchronized (TRIGGERS) {
-			for (Trigger trigger : TRIGGERS) {
-				if (((EvtRegionBorder) trigger.getEvent()).applies(regionEvent))
-					trigger.execute(regionEvent);
+			Trigger[] triggers = index.get(event.getRegion());
+			if (triggers == null) {
+				List<Trigger> applicable = new ArrayList<>();
+				for (Trigger trigger : TRIGGERS) {
+					if (((EvtRegionBorder) trigger.getEvent()).applies(event))
+						applicable.add(trigger);
+				}
+				triggers = applicable.toArray(new Trigger[0]);
+				index.put(event.getRegion(), triggers);
 			}
+			return triggers;
 		}
-		event.setCancelled(regionEvent.isCancelled());
 	}
 
-	private static final List<Trigger> TRIGGERS = Collections.synchronizedList(new ArrayList<>());
+	private static final List<Trigger> TRIGGERS = new ArrayList<>();
+
+	/**
+	 * Applicable triggers by region, guarded by {@link #TRIGGERS}.
+	 */
+	private static final Map<Region, Trigger[]> ENTER_INDEX = new HashMap<>();
+	private static final Map<Region, Trigger[]> LEAVE_INDEX = new HashMap<>();
+
+	/**
+	 * The regions each online player was last known to be in.
+	 * Only accessed from the main thread, as are the events updating it.
+	 */
+	private static final Map<UUID, RegionState> PLAYER_REGIONS = new HashMap<>();
+
+	/**
+	 * How long the regions of a player are cached for, in nanoseconds.
+	 * Regions created or deleted around a player may only be noticed after this time.
+	 */
+	private static final long MAX_STATE_AGE = TimeUnit.SECONDS.toNanos(1);
+
+	private final static EventExecutor QUIT_EXECUTOR = (listener, event) ->
+		PLAYER_REGIONS.remove(((PlayerQuitEvent) event).getPlayer().getUniqueId());
+
+	private static final class RegionState {
+
+		private final World world;
+		private final int x, y, z;
+		private final Set<? extends Region> regions;
+		/**
+		 * When the regions were looked up, in {@link System#nanoTime()}.
+		 */
+		private final long time = System.nanoTime();
+
+		RegionState(Location location, Set<? extends Region> regions) {
+			this.world = location.getWorld();
+			this.x = location.getBlockX();
+			this.y = location.getBlockY();
+			this.z = location.getBlockZ();
+			this.regions = regions;
+		}
+
+		boolean isAt(Location location) {
+			return location.getWorld() == world && location.getBlockX() == x
+				&& location.getBlockY() == y && location.getBlockZ() == z;
+		}
+
+	}
 
 	private static final AtomicBoolean REGISTERED_EXECUTORS = new AtomicBoolean();
 	
@@ -109,9 +197,14 @@ public class EvtRegionBorder extends SkriptEvent {
 
 	@Override
 	public boolean postLoad() {
-		TRIGGERS.add(trigger);
+		synchronized (TRIGGERS) {
+			TRIGGERS.add(trigger);
+			ENTER_INDEX.clear();
+			LEAVE_INDEX.clear();
+		}
 		if (REGISTERED_EXECUTORS.compareAndSet(false, true)) {
 			EventPriority priority = SkriptConfig.defaultEventPriority.value();
+			Bukkit.getPluginManager().registerEvent(PlayerQuitEvent.class, new Listener(){}, EventPriority.MONITOR, QUIT_EXECUTOR, Skript.getInstance());
 			Bukkit.getPluginManager().registerEvent(PlayerMoveEvent.class, new Listener(){}, priority, EXECUTOR, Skript.getInstance(), true);
 			Bukkit.getPluginManager().registerEvent(PlayerTeleportEvent.class, new Listener(){}, priority, EXECUTOR, Skript.getInstance(), true);
 			Bukkit.getPluginManager().registerEvent(PlayerPortalEvent.class, new Listener(){}, priority, EXECUTOR, Skript.getInstance(), true);
@@ -121,7 +214,11 @@ public class EvtRegionBorder extends SkriptEvent {
 
 	@Override
 	public void unload() {
-		TRIGGERS.remove(trigger);
+		synchronized (TRIGGERS) {
+			TRIGGERS.remove(trigger);
+			ENTER_INDEX.clear();
+			LEAVE_INDEX.clear();
+		}
 	}
 
 	@Override
@@ -147,5 +244,10 @@ public class EvtRegionBorder extends SkriptEvent {
 		Region region = event.getRegion();
 		return regions.check(event, r -> r.equals(region));
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
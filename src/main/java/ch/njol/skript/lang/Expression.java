@@ -390,6 +390,7 @@ public interface Expression<T> extends SyntaxElement, Debuggable, Loopable<T> {
 		Object[] newDelta = null;
 		if (changed instanceof Variable) {
 			newDelta = new Object[delta.length];
+			Class<?> immutableType = null; // values are usually of the same type, so the last immutable type is remembered
 			for (int i = 0; i < delta.length; i++) {
 				Object value = delta[i];
 				if (value instanceof Slot) {
@@ -399,8 +400,13 @@ public interface Expression<T> extends SyntaxElement, Debuggable, Loopable<T> {
 					}
 
 					newDelta[i] = item;
+				} else if (value == null || value.getClass() == immutableType) {
+					newDelta[i] = value;
+				} else if (Classes.isImmutable(value.getClass())) {
+					immutableType = value.getClass();
+					newDelta[i] = value;
 				} else {
-					newDelta[i] = Classes.clone(delta[i]);
+					newDelta[i] = Classes.clone(value);
 				}
 			}
 		}
@@ -1,9 +1,21 @@
 package ch.njol.skript.lang;
 
+import ch.njol.skript.Skript;
+import ch.njol.skript.SkriptConfig;
+import ch.njol.skript.effects.Delay;
+import ch.njol.skript.timings.SkriptTimings;
+import ch.njol.skript.util.Timespan;
+import ch.njol.skript.variables.Variables;
+import ch.njol.util.Kleenean;
+import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
+import org.jetbrains.annotations.Unmodifiable;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Represents a loop section.
@@ -13,7 +25,35 @@ import java.util.WeakHashMap;
  */
 public abstract class LoopSection extends Section implements SyntaxElement, Debuggable, SectionExitHandler {
 
-	protected final transient Map<Event, Long> currentLoopCounter = new WeakHashMap<>();
+	protected final transient Map<Event, Long> currentLoopCounter = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * The time sliced loops of each trigger, by the debug label of the trigger.
+	 */
+	private static final Map<String, TimeSliceStats> TIME_SLICE_STATS = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether this loop continues in the next tick once it used up its time budget of the current tick.
+	 * @see SkriptConfig#timeSlicedLoopBudget
+	 */
+	protected boolean timeSliced;
+
+	/**
+	 * Whether the server keeps count of its ticks, see {@link #currentTick()}.
+	 */
+	private static final boolean CURRENT_TICK_EXISTS = Skript.methodExists(Bukkit.class, "getCurrentTick");
+
+	/**
+	 * The amount of ticks counted by {@link #tickTaskID}, used if the server doesn't count its ticks.
+	 */
+	private static volatile long countedTicks;
+
+	private static int tickTaskID = -1;
+
+	/**
+	 * The current slice of this loop.
+	 */
+	private final transient Map<Event, Slice> slices = Collections.synchronizedMap(new WeakHashMap<>());
 
 	/**
 	 * @param event The event where the loop is used to return its loop iterations
@@ -28,6 +68,70 @@ public abstract class LoopSection extends Section implements SyntaxElement, Debu
 	 */
 	public abstract TriggerItem getActualNext();
 
+	/**
+	 * Marks this loop as time sliced, which must be done before the code of the loop is loaded.
+	 * The code in and after the loop may then run in a later tick.
+	 */
+	protected void setTimeSliced() {
+		timeSliced = true;
+		if (getParser().getHasDelayBefore().isFalse())
+			getParser().setHasDelayBefore(Kleenean.UNKNOWN);
+	}
+
+	/**
+	 * Continues this loop in the next tick if it is {@link #timeSliced time sliced}
+	 * and it used up its time budget of the current tick.
+	 * This should be called before each iteration of the loop.
+	 *
+	 * @param event The event the loop is executed in
+	 * @return Whether the loop will be continued in the next tick, in which case the current execution must stop.
+	 */
+	protected boolean sliceTime(Event event) {
+		if (!timeSliced)
+			return false;
+		long now = System.nanoTime();
+		long tick = currentTick();
+		Slice slice = slices.get(event);
+		if (slice == null) {
+			slices.put(event, new Slice(tick, now));
+			return false;
+		}
+		if (slice.tick != tick) {
+			// the loop was paused by a delay or by an outer loop continuing in a later tick, so its budget is renewed
+			addTime(slice.last - slice.start);
+			slices.put(event, new Slice(tick, now));
+			return false;
+		}
+		slice.last = now;
+		long budget = SkriptConfig.timeSlicedLoopBudget.value().getAs(Timespan.TimePeriod.MILLISECOND) * 1_000_000L;
+		// loops in async sections don't hold up the server, so they don't need to be sliced
+		if (now - slice.start < budget || !Skript.getInstance().isEnabled() || !Bukkit.isPrimaryThread())
+			return false;
+
+		Trigger trigger = getTrigger();
+		if (trigger != null)
+			TIME_SLICE_STATS.computeIfAbsent(trigger.getDebugLabel(), label -> new TimeSliceStats()).slices.increment();
+		addTime(now - slice.start);
+
+		Delay.addDelayedEvent(event);
+		Object localVars = Variables.removeLocals(event);
+		Bukkit.getScheduler().scheduleSyncDelayedTask(Skript.getInstance(), () -> {
+			if (localVars != null)
+				Variables.setLocalVariables(event, localVars);
+			slices.put(event, new Slice(currentTick(), System.nanoTime()));
+
+			Object timing = null;
+			if (SkriptTimings.enabled() && trigger != null)
+				timing = SkriptTimings.start(trigger.getDebugLabel());
+
+			TriggerItem.walk(this, event);
+			Variables.removeLocals(event); // Clean up local vars, we may be exiting now
+
+			SkriptTimings.stop(timing);
+		}, 1);
+		return true;
+	}
+
 	/**
 	 * Exit the loop, used to reset the loop properties such as iterations counter
 	 * @param event The event where the loop is used to reset its relevant properties
@@ -35,6 +139,82 @@ public abstract class LoopSection extends Section implements SyntaxElement, Debu
 	@Override
 	public void exit(Event event) {
 		currentLoopCounter.remove(event);
+		Slice slice = slices.remove(event);
+		if (slice != null)
+			addTime((slice.tick == currentTick() ? System.nanoTime() : slice.last) - slice.start);
+	}
+
+	/**
+	 * Adds the time a slice of this loop ran for to the {@link #getTimeSliceStats() statistics} of its trigger.
+	 */
+	private void addTime(long nanos) {
+		Trigger trigger = getTrigger();
+		if (trigger != null)
+			TIME_SLICE_STATS.computeIfAbsent(trigger.getDebugLabel(), label -> new TimeSliceStats()).nanos.add(nanos);
+	}
+
+	/**
+	 * @return The current tick of the server. If the server doesn't count its ticks, they are counted by a repeating task,
+	 * which may only be noticed later in a tick than the server's count.
+	 */
+	private static long currentTick() {
+		if (CURRENT_TICK_EXISTS)
+			return Bukkit.getCurrentTick();
+		if (tickTaskID == -1 && Bukkit.isPrimaryThread() && Skript.getInstance().isEnabled())
+			tickTaskID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Skript.getInstance(), () -> countedTicks++, 1, 1);
+		return countedTicks;
+	}
+
+	/**
+	 * A part of a time sliced loop's execution that runs within a single tick.
+	 */
+	private static final class Slice {
+
+		private final long tick;
+		private final long start;
+		/**
+		 * When the loop last checked its budget in this slice, in {@link System#nanoTime()}.
+		 */
+		private long last;
+
+		private Slice(long tick, long start) {
+			this.tick = tick;
+			this.start = start;
+			this.last = start;
+		}
+
+	}
+
+	/**
+	 * @return The statistics of the time sliced loops of each trigger that executed any, by the debug label of the trigger.
+	 */
+	public static @Unmodifiable Map<String, TimeSliceStats> getTimeSliceStats() {
+		return Collections.unmodifiableMap(TIME_SLICE_STATS);
+	}
+
+	/**
+	 * Statistics of the time sliced loops of a trigger.
+	 */
+	public static final class TimeSliceStats {
+
+		private final LongAdder slices = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+
+		/**
+		 * @return How often the loops continued in the next tick because they used up their time budget.
+		 */
+		public long getSlices() {
+			return slices.sum();
+		}
+
+		/**
+		 * @return The total time the loops ran for, in milliseconds.
+		 * Time spent waiting, e.g. for a delay in the loop, is not included.
+		 */
+		public long getMillis() {
+			return nanos.sum() / 1_000_000L;
+		}
+
 	}
 
 }
@@ -4,6 +4,7 @@ import ch.njol.skript.ScriptLoader;
 import ch.njol.skript.Skript;
 import ch.njol.skript.SkriptConfig;
 import ch.njol.skript.SkriptEventHandler;
+import ch.njol.skript.config.Node;
 import ch.njol.skript.config.SectionNode;
 import ch.njol.skript.events.EvtClick;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
@@ -174,6 +175,23 @@ public abstract class SkriptEvent extends Structure {
 		return PRIORITY;
 	}
 
+	/**
+	 * Like other Structures, events are not reusable by default.
+	 * Events whose triggers are independent of each other and of when their script is loaded should override this.
+	 */
+	@Override
+	public boolean isReusable() {
+		return false;
+	}
+
+	@Override
+	public void reuse(Node node) {
+		source = (SectionNode) node;
+		int lineNumber = node.getLine();
+		trigger.setLineNumber(lineNumber);
+		trigger.setDebugLabel(trigger.getScript() + ": line " + lineNumber);
+	}
+
 	/**
 	 * Checks whether the given Event applies, e.g. the left-click event is only part of the PlayerInteractEvent, and this checks whether the player left-clicked or not. This method
 	 * will only be called for events this SkriptEvent is registered for.
@@ -12,6 +12,7 @@ import ch.njol.skript.expressions.ExprParse;
 import ch.njol.skript.lang.function.ExprFunctionCall;
 import ch.njol.skript.lang.function.FunctionReference;
 import ch.njol.skript.lang.function.Functions;
+import ch.njol.skript.lang.parser.ParseHints;
 import ch.njol.skript.lang.parser.ParseStackOverflowException;
 import ch.njol.skript.lang.parser.ParserInstance;
 import ch.njol.skript.lang.parser.ParsingStack;
@@ -27,6 +28,7 @@ import ch.njol.skript.patterns.PatternCompiler;
 import ch.njol.skript.patterns.SkriptPattern;
 import ch.njol.skript.patterns.TypePatternElement;
 import ch.njol.skript.registrations.Classes;
+import ch.njol.skript.sections.SecAsync;
 import ch.njol.skript.util.Utils;
 import ch.njol.util.Kleenean;
 import ch.njol.util.NonNullPair;
@@ -145,13 +147,24 @@ public class SkriptParser {
 	 * Can print an error.
 	 */
 	public static <T extends SyntaxElement> @Nullable T parse(String expr, Iterator<? extends SyntaxElementInfo<T>> source, @Nullable String defaultError) {
+		return parse(expr, source, defaultError == null ? null : () -> defaultError);
+	}
+
+	/**
+	 * Parses a string as one of the given syntax elements.
+	 * The default error is only created if it is printed.
+	 * <p>
+	 * Can print an error.
+	 */
+	public static <T extends SyntaxElement> @Nullable T parse(String expr, Iterator<? extends SyntaxElementInfo<T>> source, @Nullable Supplier<String> defaultError) {
 		expr = "" + expr.trim();
 		if (expr.isEmpty()) {
-			Skript.error(defaultError);
+			if (defaultError != null)
+				Skript.error(defaultError, ErrorQuality.SEMANTIC_ERROR);
 			return null;
 		}
 		try (ParseLogHandler log = SkriptLogger.startParseLogHandler()) {
-			T element = new SkriptParser(expr).parse(source);
+			T element = new SkriptParser(expr).parseHinted(source);
 			if (element != null) {
 				log.printLog();
 				return element;
@@ -166,15 +179,23 @@ public class SkriptParser {
 	}
 
 	public static <T extends SyntaxElement> @Nullable T parseStatic(String expr, Iterator<? extends SyntaxElementInfo<? extends T>> source, ParseContext parseContext, @Nullable String defaultError) {
+		return parseStatic(expr, source, parseContext, defaultError == null ? null : () -> defaultError);
+	}
+
+	/**
+	 * Like {@link #parseStatic(String, Iterator, ParseContext, String)}, but only creates the default error if it is printed.
+	 */
+	public static <T extends SyntaxElement> @Nullable T parseStatic(String expr, Iterator<? extends SyntaxElementInfo<? extends T>> source, ParseContext parseContext, @Nullable Supplier<String> defaultError) {
 		expr = expr.trim();
 		if (expr.isEmpty()) {
-			Skript.error(defaultError);
+			if (defaultError != null)
+				Skript.error(defaultError, ErrorQuality.SEMANTIC_ERROR);
 			return null;
 		}
 
 		T element;
 		try (ParseLogHandler log = SkriptLogger.startParseLogHandler()) {
-			element = new SkriptParser(expr, PARSE_LITERALS, parseContext).parse(source);
+			element = new SkriptParser(expr, PARSE_LITERALS, parseContext).parseHinted(source);
 			if (element != null) {
 				log.printLog();
 				return element;
@@ -189,75 +210,71 @@ public class SkriptParser {
 		try (ParseLogHandler log = SkriptLogger.startParseLogHandler()) {
 			while (source.hasNext()) {
 				SyntaxElementInfo<? extends T> info = source.next();
-				patternsLoop: for (int patternIndex = 0; patternIndex < info.patterns.length; patternIndex++) {
+				for (int patternIndex = 0; patternIndex < info.patterns.length; patternIndex++) {
 					log.clear();
-					try {
-						String pattern = info.patterns[patternIndex];
-						assert pattern != null;
-						ParseResult parseResult;
-						try {
-							parsingStack.push(new ParsingStack.Element(info, patternIndex));
-							parseResult = parse_i(pattern);
-						} catch (MalformedPatternException e) {
-							String message = "pattern compiling exception, element class: " + info.getElementClass().getName();
-							try {
-								JavaPlugin providingPlugin = JavaPlugin.getProvidingPlugin(info.getElementClass());
-								message += " (provided by " + providingPlugin.getName() + ")";
-							} catch (IllegalArgumentException | IllegalStateException ignored) { }
-
-							throw new RuntimeException(message, e);
-						} catch (StackOverflowError e) {
-							// Parsing caused a stack overflow, possibly due to too long lines
-							throw new ParseStackOverflowException(e, new ParsingStack(parsingStack));
-						} finally {
-							// Recursive parsing call done, pop the element from the parsing stack
-							ParsingStack.Element stackElement = parsingStack.pop();
-
-							assert stackElement.syntaxElementInfo() == info && stackElement.patternIndex() == patternIndex;
-						}
-						if (parseResult != null) {
-							assert parseResult.source != null; // parse results from parse_i have a source
-							List<TypePatternElement> types = null;
-							for (int i = 0; i < parseResult.exprs.length; i++) {
-								if (parseResult.exprs[i] == null) {
-									if (types == null)
-										types = parseResult.source.getElements(TypePatternElement.class);;
-									ExprInfo exprInfo = types.get(i).getExprInfo();
-									if (!exprInfo.isOptional) {
-										DefaultExpression<?> expr = getDefaultExpression(exprInfo, info.patterns[patternIndex]);
-										if (!expr.init())
-											continue patternsLoop;
-										parseResult.exprs[i] = expr;
-									}
-								}
-							}
-							T element = info.getElementClass().newInstance();
-
-							if (element instanceof EventRestrictedSyntax eventRestrictedSyntax) {
-								Class<? extends Event>[] supportedEvents = eventRestrictedSyntax.supportedEvents();
-								if (!getParser().isCurrentEvent(supportedEvents)) {
-									Iterator<String> iterator = Arrays.stream(supportedEvents)
-										.map(it -> "the " + it.getSimpleName()
-											.replaceAll("([A-Z])", " $1")
-											.toLowerCase()
-											.trim())
-										.iterator();
-
-									String events = StringUtils.join(iterator, ", ", " or ");
-
-									Skript.error("'" + parseResult.expr + "' can only be used in " + events);
-									continue;
-								}
-							}
+					T element = parse(info, patternIndex, parsingStack);
+					if (element != null) {
+						log.printLog();
+						return element;
+					}
+				}
+			}
 
-							boolean success = element.init(parseResult.exprs, patternIndex, getParser().getHasDelayBefore(), parseResult);
-							if (success) {
-								log.printLog();
-								return element;
-							}
-						}
-					} catch (InstantiationException | IllegalAccessException e) {
-						assert false;
+			// No successful syntax elements parsed, print errors and return
+			log.printError();
+			return null;
+		}
+	}
+
+	/**
+	 * Like {@link #parse(Iterator)}, but tries the syntax element and pattern that parsed this line
+	 * the last time first, if a {@link ParseHints parse hint} is known for it.
+	 * The full search is only done if there is no hint or the hinted pattern fails to parse.
+	 */
+	private <T extends SyntaxElement> @Nullable T parseHinted(Iterator<? extends SyntaxElementInfo<? extends T>> source) {
+		ParserInstance parser = getParser();
+		if (!ParseHints.isEnabled(parser))
+			return parse(source);
+
+		List<SyntaxElementInfo<? extends T>> infos = new ArrayList<>();
+		source.forEachRemaining(infos::add);
+		if (infos.isEmpty())
+			return null;
+		// lines may be parsed against different sets of syntax elements (e.g. effects or conditions)
+		String key = ParseHints.key(expr, flags, context, infos.get(0).getElementClass().getName() + "#" + infos.size(), parser);
+		ParseHints.Hint hint = ParseHints.get(key);
+
+		ParsingStack parsingStack = parser.getParsingStack();
+		try (ParseLogHandler log = SkriptLogger.startParseLogHandler()) {
+			SyntaxElementInfo<? extends T> hintedInfo = null;
+			if (hint != null) {
+				for (SyntaxElementInfo<? extends T> info : infos) {
+					if (info.getElementClass().getName().equals(hint.elementClass())) {
+						if (hint.patternIndex() < info.patterns.length)
+							hintedInfo = info;
+						break;
+					}
+				}
+				if (hintedInfo != null) {
+					T element = parse(hintedInfo, hint.patternIndex(), parsingStack);
+					if (element != null) {
+						ParseHints.put(key, hint);
+						log.printLog();
+						return element;
+					}
+				}
+			}
+
+			for (SyntaxElementInfo<? extends T> info : infos) {
+				for (int patternIndex = 0; patternIndex < info.patterns.length; patternIndex++) {
+					if (info == hintedInfo && patternIndex == hint.patternIndex())
+						continue; // already tried above
+					log.clear();
+					T element = parse(info, patternIndex, parsingStack);
+					if (element != null) {
+						ParseHints.put(key, new ParseHints.Hint(info.getElementClass().getName(), patternIndex));
+						log.printLog();
+						return element;
 					}
 				}
 			}
@@ -268,6 +285,85 @@ public class SkriptParser {
 		}
 	}
 
+	/**
+	 * Attempts to parse this parser's expression as the given pattern of the given syntax element.
+	 *
+	 * @return The initialised syntax element, or null if the pattern does not match or the element failed to initialise.
+	 */
+	private <T extends SyntaxElement> @Nullable T parse(SyntaxElementInfo<? extends T> info, int patternIndex, ParsingStack parsingStack) {
+		try {
+			String pattern = info.patterns[patternIndex];
+			assert pattern != null;
+			ParseResult parseResult;
+			try {
+				parsingStack.push(new ParsingStack.Element(info, patternIndex));
+				parseResult = parse_i(pattern);
+			} catch (MalformedPatternException e) {
+				String message = "pattern compiling exception, element class: " + info.getElementClass().getName();
+				try {
+					JavaPlugin providingPlugin = JavaPlugin.getProvidingPlugin(info.getElementClass());
+					message += " (provided by " + providingPlugin.getName() + ")";
+				} catch (IllegalArgumentException | IllegalStateException ignored) { }
+
+				throw new RuntimeException(message, e);
+			} catch (StackOverflowError e) {
+				// Parsing caused a stack overflow, possibly due to too long lines
+				throw new ParseStackOverflowException(e, new ParsingStack(parsingStack));
+			} finally {
+				// Recursive parsing call done, pop the element from the parsing stack
+				ParsingStack.Element stackElement = parsingStack.pop();
+
+				assert stackElement.syntaxElementInfo() == info && stackElement.patternIndex() == patternIndex;
+			}
+			if (parseResult != null) {
+				assert parseResult.source != null; // parse results from parse_i have a source
+				List<TypePatternElement> types = null;
+				for (int i = 0; i < parseResult.exprs.length; i++) {
+					if (parseResult.exprs[i] == null) {
+						if (types == null)
+							types = parseResult.source.getElements(TypePatternElement.class);;
+						ExprInfo exprInfo = types.get(i).getExprInfo();
+						if (!exprInfo.isOptional) {
+							DefaultExpression<?> expr = getDefaultExpression(exprInfo, info.patterns[patternIndex]);
+							if (!expr.init())
+								return null;
+							parseResult.exprs[i] = expr;
+						}
+					}
+				}
+				T element = info.getElementClass().newInstance();
+
+				if (element instanceof EventRestrictedSyntax eventRestrictedSyntax) {
+					Class<? extends Event>[] supportedEvents = eventRestrictedSyntax.supportedEvents();
+					if (!getParser().isCurrentEvent(supportedEvents)) {
+						Iterator<String> iterator = Arrays.stream(supportedEvents)
+							.map(it -> "the " + it.getSimpleName()
+								.replaceAll("([A-Z])", " $1")
+								.toLowerCase()
+								.trim())
+							.iterator();
+
+						String events = StringUtils.join(iterator, ", ", " or ");
+
+						Skript.error("'" + parseResult.expr + "' can only be used in " + events);
+						return null;
+					}
+				}
+
+				if (!(element instanceof ThreadSafeSyntax) && SecAsync.isAsync(getParser())) {
+					Skript.error("'" + parseResult.expr + "' can't be used in an async section, as it's not thread-safe. Use a sync section to run it on the main thread.");
+					return null;
+				}
+
+				if (element.init(parseResult.exprs, patternIndex, getParser().getHasDelayBefore(), parseResult))
+					return element;
+			}
+		} catch (InstantiationException | IllegalAccessException e) {
+			assert false;
+		}
+		return null;
+	}
+
 	private static @NotNull DefaultExpression<?> getDefaultExpression(ExprInfo exprInfo, String pattern) {
 		DefaultExpression<?> expr = exprInfo.classes[0].getDefaultExpression();
 		if (expr == null)
@@ -381,7 +477,7 @@ public class SkriptParser {
 						return convertedExpression;
 					}
 					// Print errors, if we couldn't get the correct type
-					log.printError(parsedExpression.toString(null, false) + " " + Language.get("is") + " " + notOfType(types), ErrorQuality.NOT_AN_EXPRESSION);
+					log.printError(() -> parsedExpression.toString(null, false) + " " + Language.get("is") + " " + notOfType(types), ErrorQuality.NOT_AN_EXPRESSION);
 					return null;
 				}
 				log.clear();
@@ -472,7 +568,7 @@ public class SkriptParser {
 
 						// Plural/singular sanity check
 						if (hasSingular && !parsedVariable.isSingle()) {
-							Skript.error("'" + expr + "' can only accept a single value of any type, not more", ErrorQuality.SEMANTIC_ERROR);
+							Skript.error(() -> "'" + expr + "' can only accept a single value of any type, not more", ErrorQuality.SEMANTIC_ERROR);
 							return null;
 						}
 
@@ -505,7 +601,7 @@ public class SkriptParser {
 						// improper use in a script would result in an exception
 						if (((exprInfo.classes.length == 1 && !exprInfo.isPlural[0]) || Booleans.contains(exprInfo.isPlural, true))
 								&& !parsedVariable.isSingle()) {
-							Skript.error("'" + expr + "' can only accept a single "
+							Skript.error(() -> "'" + expr + "' can only accept a single "
 									+ Classes.toString(Stream.of(exprInfo.classes).map(classInfo -> classInfo.getName().toString()).toArray(), false)
 									+ ", not more", ErrorQuality.SEMANTIC_ERROR);
 							return null;
@@ -542,10 +638,11 @@ public class SkriptParser {
 						// Check return type against the expression's return type
 						if (type.isAssignableFrom(parsedReturnType)) {
 							if (!exprInfo.isPlural[i] && !parsedExpression.isSingle()) { // Wrong number of arguments
+								ClassInfo<?> classInfo = exprInfo.classes[i];
 								if (context == ParseContext.COMMAND) {
-									Skript.error(Commands.m_too_many_arguments.toString(exprInfo.classes[i].getName().getIndefiniteArticle(), exprInfo.classes[i].getName().toString()), ErrorQuality.SEMANTIC_ERROR);
+									Skript.error(() -> Commands.m_too_many_arguments.toString(classInfo.getName().getIndefiniteArticle(), classInfo.getName().toString()), ErrorQuality.SEMANTIC_ERROR);
 								} else {
-									Skript.error("'" + expr + "' can only accept a single " + exprInfo.classes[i].getName() + ", not more", ErrorQuality.SEMANTIC_ERROR);
+									Skript.error(() -> "'" + expr + "' can only accept a single " + classInfo.getName() + ", not more", ErrorQuality.SEMANTIC_ERROR);
 								}
 								return null;
 							}
@@ -556,7 +653,7 @@ public class SkriptParser {
 					}
 
 					if (onlySingular && !parsedExpression.isSingle()) {
-						Skript.error("'" + expr + "' can only accept singular expressions, not plural", ErrorQuality.SEMANTIC_ERROR);
+						Skript.error(() -> "'" + expr + "' can only accept singular expressions, not plural", ErrorQuality.SEMANTIC_ERROR);
 						return null;
 					}
 
@@ -568,7 +665,7 @@ public class SkriptParser {
 					}
 
 					// Print errors, if we couldn't get the correct type
-					log.printError(parsedExpression.toString(null, false) + " " + Language.get("is") + " " + notOfType(types), ErrorQuality.NOT_AN_EXPRESSION);
+					log.printError(() -> parsedExpression.toString(null, false) + " " + Language.get("is") + " " + notOfType(types), ErrorQuality.NOT_AN_EXPRESSION);
 					return null;
 				}
 				log.clear();
@@ -935,6 +1032,11 @@ public class SkriptParser {
 			}
 
 			ParserInstance parser = getParser();
+			if (SecAsync.isAsync(parser)) {
+				Skript.error("Functions can't be called in an async section, as they may not be thread-safe. Use a sync section to call them on the main thread.");
+				log.printError();
+				return null;
+			}
 			Script currentScript = parser.isActive() ? parser.getCurrentScript() : null;
 			FunctionReference<T> functionReference = new FunctionReference<>(functionName, SkriptLogger.getNode(),
 					currentScript != null ? currentScript.getConfig().getFileName() : null, types, params);//.toArray(new Expression[params.size()]));
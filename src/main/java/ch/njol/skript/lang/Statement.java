@@ -10,6 +10,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Supertype of conditions and effects
@@ -28,7 +29,21 @@ public abstract class Statement extends TriggerItem implements SyntaxElement {
 		return parse(input, defaultError, null, items);
 	}
 
+	/**
+	 * Like {@link #parse(String, List, String)}, but only creates the default error if it is printed.
+	 */
+	public static @Nullable Statement parse(String input, @Nullable List<TriggerItem> items, Supplier<String> defaultError) {
+		return parse(input, defaultError, null, items);
+	}
+
 	public static @Nullable Statement parse(String input, @Nullable String defaultError, @Nullable SectionNode node, @Nullable List<TriggerItem> items) {
+		return parse(input, defaultError == null ? null : () -> defaultError, node, items);
+	}
+
+	/**
+	 * Like {@link #parse(String, String, SectionNode, List)}, but only creates the default error if it is printed.
+	 */
+	public static @Nullable Statement parse(String input, @Nullable Supplier<String> defaultError, @Nullable SectionNode node, @Nullable List<TriggerItem> items) {
 		try (ParseLogHandler log = SkriptLogger.startParseLogHandler()) {
 			EffFunctionCall functionCall = EffFunctionCall.parse(input);
 			if (functionCall != null) {
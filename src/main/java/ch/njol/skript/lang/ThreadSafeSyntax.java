@@ -0,0 +1,20 @@
+package ch.njol.skript.lang;
+
+import ch.njol.util.Kleenean;
+
+/**
+ * A syntax element that can be executed on any thread, not only on the server's main thread.
+ * <p>
+ * Only syntax elements implementing this interface can be used in {@link ch.njol.skript.sections.SecAsync async sections}.
+ * Before {@link SyntaxElement#init(Expression[], int, Kleenean, SkriptParser.ParseResult)} is called
+ * on any other syntax element, it is checked that the element is not used in an async section.
+ * If it is, an error will be printed and the syntax element will not be initialised.
+ * <p>
+ * Syntax elements are only thread-safe if they don't access the server's worlds, entities, etc.,
+ * but only the values of their own expressions and variables.
+ * An element that changes an expression, e.g. {@link ch.njol.skript.effects.EffChange},
+ * may still be thread-safe, as the changed expression itself must be thread-safe as well.
+ */
+public interface ThreadSafeSyntax {
+
+}
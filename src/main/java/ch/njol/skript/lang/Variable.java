@@ -28,6 +28,7 @@ import ch.njol.skript.structures.StructVariables.DefaultVariables;
 import ch.njol.skript.util.StringMode;
 import ch.njol.skript.util.Utils;
 import ch.njol.skript.variables.TypeHints;
+import ch.njol.skript.variables.VariablePath;
 import ch.njol.skript.variables.Variables;
 import ch.njol.util.Kleenean;
 import ch.njol.util.Pair;
@@ -81,6 +82,11 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 
 	private final @Nullable Variable<?> source;
 
+	/**
+	 * The name of this variable compiled into its parts, created when first accessing this variable.
+	 */
+	private @Nullable CompiledName compiledName;
+
 	@SuppressWarnings("unchecked")
 	private Variable(VariableString name, Class<? extends T>[] types, boolean local, boolean list, @Nullable Variable<?> source) {
 		assert types.length > 0;
@@ -311,6 +317,14 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 	 */
 	public @Nullable Object getRaw(Event event) {
 		DefaultVariables data = script == null ? null : script.getData(DefaultVariables.class);
+		VariablePath path = getPath(event, data);
+		if (path != null) {
+			// prevents e.g. {%expr%} where "%expr%" ends with "::*" from returning a Map
+			if (path.name().endsWith(Variable.SEPARATOR + "*") != list)
+				return null;
+			Object value = Variables.getVariable(path, event, local);
+			return !list ? convertIfOldPlayer(path.name(), local, event, value) : value;
+		}
 		if (data != null)
 			data.enterScope();
 		try {
@@ -339,6 +353,28 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 		return null;
 	}
 
+	/**
+	 * Gets the value of the default variables of this variable, which is used if this variable is not set.
+	 * Unlike {@link #getRaw(Event)}, this does not get the value of this variable itself.
+	 * @param name The name of this variable in the given event.
+	 */
+	private @Nullable Object getDefaultValue(String name, Event event) {
+		DefaultVariables data = script == null ? null : script.getData(DefaultVariables.class);
+		if (data == null || !data.hasDefaultVariables())
+			return null;
+		data.enterScope();
+		try {
+			for (String typeHint : this.name.getDefaultVariableNames(name, event)) {
+				Object value = Variables.getVariable(typeHint, event, false);
+				if (value != null)
+					return value;
+			}
+		} finally {
+			data.exitScope();
+		}
+		return null;
+	}
+
 	private @Nullable Object get(Event event) {
 		Object rawValue = getRaw(event);
 		if (!list)
@@ -450,7 +486,26 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 	}
 
 	private void set(Event event, @Nullable Object value) {
-		Variables.setVariable("" + name.toString(event), value, event, local);
+		VariablePath path = getPath(event, script == null ? null : script.getData(DefaultVariables.class));
+		if (path != null) {
+			Variables.setVariable(path, value, event, local);
+		} else {
+			Variables.setVariable("" + name.toString(event), value, event, local);
+		}
+	}
+
+	/**
+	 * @return the path of this variable in the given event,
+	 * or {@code null} if its name has to be built with {@link VariableString#toString(Event)} instead.
+	 * This is always the case if the script has default variables, as building the name collects their type hints.
+	 */
+	private @Nullable VariablePath getPath(Event event, @Nullable DefaultVariables data) {
+		if (data != null && data.hasDefaultVariables())
+			return null;
+		CompiledName compiledName = this.compiledName;
+		if (compiledName == null || compiledName.caseInsensitive != Variables.caseInsensitiveVariables)
+			this.compiledName = compiledName = new CompiledName(name, Variables.caseInsensitiveVariables);
+		return compiledName.resolve(event);
 	}
 
 	private void setIndex(Event event, String index, @Nullable Object value) {
@@ -558,7 +613,17 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 			case REMOVE:
 			case REMOVE_ALL:
 				assert delta != null;
-				if (list) {
+				if (list && mode == ChangeMode.ADD) {
+					String name = this.name.toString(event);
+					assert name.endsWith(SEPARATOR + "*") : name + "; " + this.name;
+					Variables.addToList(name, delta, event, local);
+				} else if (list) {
+					Set<String> indexed = getIndicesToRemove(event, delta, mode == ChangeMode.REMOVE_ALL);
+					if (indexed != null) {
+						for (String index : indexed)
+							setIndex(event, index, null);
+						return;
+					}
 					Map<String, Object> map = (Map<String, Object>) getRaw(event);
 					if (mode == ChangeMode.REMOVE) {
 						if (map == null)
@@ -596,40 +661,49 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 							assert index != null;
 							setIndex(event, index, null);
 						}
-					} else {
-						assert mode == ChangeMode.ADD;
-						int i = 1;
-						for (Object value : delta) {
-							if (map != null)
-								while (map.containsKey("" + i))
-									i++;
-							setIndex(event, "" + i, value);
-							i++;
-						}
 					}
 				} else {
-					Object originalValue = get(event);
-					Class<?> clazz = originalValue == null ? null : originalValue.getClass();
+					String name = this.name.toString(event);
+					// prevents e.g. {%expr%} where "%expr%" ends with "::*" from changing a list
+					if (name.endsWith(SEPARATOR + "*"))
+						return;
 					Operator operator = mode == ChangeMode.ADD ? Operator.ADDITION : Operator.SUBTRACTION;
-					Changer<?> changer;
-					Class<?>[] classes;
-					if (clazz == null || !Arithmetics.getOperations(operator, clazz).isEmpty()) {
+					// if not set, default variables may provide the value to change
+					// this is evaluated beforehand, as no other expressions should be evaluated while changing the variable
+					Object defaultValue = getDefaultValue(name, event);
+					// the calculation is done atomically, so concurrent changes of this variable can't be lost
+					Object[] nonArithmeticValue = new Object[1];
+					Variables.computeVariable(name, current -> {
+						Object value = current != null ? current : defaultValue;
+						Class<?> clazz = value == null ? null : value.getClass();
+						if (clazz != null && Arithmetics.getOperations(operator, clazz).isEmpty()) {
+							nonArithmeticValue[0] = value;
+							return current;
+						}
 						boolean changed = false;
 						for (Object newValue : delta) {
 							OperationInfo info = Arithmetics.getOperationInfo(operator, clazz != null ? (Class) clazz : newValue.getClass(), newValue.getClass());
 							if (info == null)
 								continue;
 
-							Object value = originalValue == null ? Arithmetics.getDefaultValue(info.getLeft()) : originalValue;
-							if (value == null)
+							Object left = value == null ? Arithmetics.getDefaultValue(info.getLeft()) : value;
+							if (left == null)
 								continue;
 
-							originalValue = info.getOperation().calculate(value, newValue);
+							value = info.getOperation().calculate(left, newValue);
 							changed = true;
 						}
-						if (changed)
-							set(event, originalValue);
-					} else if ((changer = Classes.getSuperClassInfo(clazz).getChanger()) != null && (classes = changer.acceptChange(mode)) != null) {
+						return changed ? value : current;
+					}, event, local);
+
+					// values without arithmetic may be changed by their changer instead
+					Object originalValue = nonArithmeticValue[0];
+					if (originalValue == null)
+						return;
+					Changer<?> changer = Classes.getSuperClassInfo(originalValue.getClass()).getChanger();
+					Class<?>[] classes = changer != null ? changer.acceptChange(mode) : null;
+					if (classes != null) {
+						originalValue = convertIfOldPlayer(name, local, event, originalValue);
 						Object[] originalValueArray = (Object[]) Array.newInstance(originalValue.getClass(), 1);
 						originalValueArray[0] = originalValue;
 
@@ -652,6 +726,45 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 		}
 	}
 
+	/**
+	 * Finds the indices of this list variable that should be removed when removing the given values,
+	 * using {@link Variables#getListIndicesOf(String, Object, Event, boolean)}.
+	 *
+	 * @param all whether to remove all occurrences of each value, or only the first.
+	 * @return the indices to remove, or {@code null} if the values of the list have to be compared instead.
+	 */
+	private @Nullable Set<String> getIndicesToRemove(Event event, Object[] values, boolean all) {
+		String name = this.name.toString(event);
+		Set<String> toRemove = new HashSet<>();
+		for (Object value : values) {
+			List<String> indices = Variables.getListIndicesOf(name, value, event, local);
+			if (indices == null)
+				return null;
+			if (all) {
+				toRemove.addAll(indices);
+			} else {
+				for (String index : indices) {
+					if (toRemove.add(index))
+						break;
+				}
+			}
+		}
+		return toRemove;
+	}
+
+	/**
+	 * Checks whether this list variable contains the given value,
+	 * without comparing the value to every value of the list if possible.
+	 *
+	 * @return whether the value is in this list, or {@code null} if the values of the list have to be compared instead.
+	 */
+	public @Nullable Boolean containsValue(Event event, Object value) {
+		if (!list)
+			throw new SkriptAPIException("Invalid call to containsValue on non-list");
+		List<String> indices = Variables.getListIndicesOf(this.name.toString(event), value, event, local);
+		return indices == null ? null : !indices.isEmpty();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * @param getAll This has no effect for a Variable, as {@link #getArray(Event)} is the same as {@link #getAll(Event)}.
@@ -664,10 +777,18 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 	@Override
 	public <R> void changeInPlace(Event event, Function<T, R> changeFunction) {
 		if (!list) {
-			T value = getSingle(event);
-			if (value == null)
+			String name = this.name.toString(event);
+			if (name.endsWith(SEPARATOR + "*"))
 				return;
-			set(event, changeFunction.apply(value));
+			// if not set, default variables may provide the value to change
+			Object defaultValue = getDefaultValue(name, event);
+			// the change is done atomically, so concurrent changes of this variable can't be lost
+			Variables.computeVariable(name, current -> {
+				T value = Converters.convert(current != null ? current : defaultValue, types);
+				if (value == null)
+					return current;
+				return changeFunction.apply(value);
+			}, event, local);
 			return;
 		}
 		variablesIterator(event).forEachRemaining(pair -> {
@@ -787,4 +908,122 @@ public class Variable<T> implements Expression<T>, KeyReceiverExpression<T>, Key
 		return true;
 	}
 
+	/**
+	 * The name of a variable split into the parts separated by {@link #SEPARATOR} at parse time,
+	 * so that accessing the variable only has to stringify the expressions in its name,
+	 * instead of building the whole name, changing its case and splitting it again.
+	 */
+	private static final class CompiledName {
+
+		private final boolean caseInsensitive;
+		private final StringMode mode;
+
+		/**
+		 * The parts of the name, each consisting of strings and expressions,
+		 * or {@code null} if the name can't be compiled.
+		 */
+		private final Object @Nullable [][] parts;
+
+		/**
+		 * The path of the name if it does not contain any expressions.
+		 */
+		private final @Nullable VariablePath constant;
+
+		CompiledName(VariableString name, boolean caseInsensitive) {
+			this.caseInsensitive = caseInsensitive;
+			this.mode = name.getMode();
+			this.parts = compile(name, caseInsensitive);
+
+			VariablePath constant = null;
+			if (parts != null && Arrays.stream(parts).flatMap(Arrays::stream).allMatch(String.class::isInstance))
+				constant = resolve(null);
+			this.constant = constant;
+		}
+
+		private static Object @Nullable [][] compile(VariableString name, boolean caseInsensitive) {
+			Object[] strings = name.isSimple() ? new Object[] {name.toString(null)} : name.getParts();
+			if (strings == null)
+				return null;
+
+			List<Object[]> parts = new ArrayList<>();
+			List<Object> part = new ArrayList<>();
+			for (Object object : strings) {
+				if (object instanceof Expression<?>) {
+					part.add(object);
+					continue;
+				}
+				String string = String.valueOf(object);
+				if (caseInsensitive)
+					string = string.toLowerCase(Locale.ENGLISH);
+				int start = 0;
+				int separator;
+				while ((separator = string.indexOf(SEPARATOR, start)) != -1) {
+					if (separator > start)
+						part.add(string.substring(start, separator));
+					parts.add(part.toArray());
+					part = new ArrayList<>();
+					start = separator + SEPARATOR.length();
+				}
+				if (start < string.length())
+					part.add(string.substring(start));
+			}
+			parts.add(part.toArray());
+
+			for (Object[] compiledPart : parts) {
+				for (Object piece : compiledPart) {
+					// a separator could be formed together with the value of an expression
+					if (piece instanceof String string && (string.startsWith(SINGLE_SEPARATOR_CHAR) || string.endsWith(SINGLE_SEPARATOR_CHAR)))
+						return null;
+				}
+			}
+			return parts.toArray(new Object[0][]);
+		}
+
+		/**
+		 * @return the path of the name in the given event,
+		 * or {@code null} if it can't be determined without building and splitting the whole name.
+		 */
+		@Nullable VariablePath resolve(@Nullable Event event) {
+			if (constant != null)
+				return constant;
+			Object[][] parts = this.parts;
+			if (parts == null)
+				return null;
+
+			String[] resolved = new String[parts.length];
+			StringBuilder name = new StringBuilder();
+			for (int i = 0; i < parts.length; i++) {
+				Object[] pieces = parts[i];
+				String part;
+				if (pieces.length == 1 && pieces[0] instanceof String string) {
+					part = string;
+				} else {
+					StringBuilder builder = new StringBuilder();
+					for (Object piece : pieces) {
+						if (piece instanceof Expression<?> expression) {
+							assert event != null;
+							String value = Classes.toString(expression.getArray(event), true, mode);
+							// the value may contain a separator, leave splitting it to the variables map
+							if (value.indexOf(SINGLE_SEPARATOR_CHAR.charAt(0)) != -1)
+								return null;
+							builder.append(caseInsensitive ? value.toLowerCase(Locale.ENGLISH) : value);
+						} else {
+							builder.append(piece);
+						}
+					}
+					part = builder.toString();
+				}
+				if (i > 0)
+					name.append(SEPARATOR);
+				name.append(part);
+				resolved[i] = part;
+			}
+			// trailing empty parts are removed when splitting a name
+			if (resolved[resolved.length - 1].isEmpty())
+				return null;
+			return new VariablePath(name.toString(), resolved);
+		}
+
+	}
+
 }
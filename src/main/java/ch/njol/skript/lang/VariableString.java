@@ -594,6 +594,15 @@ public class VariableString implements Expression<String> {
 		return isSimple;
 	}
 
+	/**
+	 * Do not modify the returned array!
+	 *
+	 * @return the parts of this string, which are either strings or expressions, or {@code null} if this string is simple.
+	 */
+	Object @Nullable [] getParts() {
+		return strings;
+	}
+
 	public StringMode getMode() {
 		return mode;
 	}
@@ -20,6 +20,11 @@ public abstract class Function<T> {
 	public static boolean executeWithNulls = SkriptConfig.executeFunctionsWithMissingParams.value();
 
 	private final Signature<T> sign;
+
+	/**
+	 * The cache of the results of this function, only present if this function is pure.
+	 */
+	private @Nullable FunctionCache cache;
 	
 	public Function(Signature<T> sign) {
 		this.sign = sign;
@@ -54,6 +59,30 @@ public abstract class Function<T> {
 		return sign.getReturnType();
 	}
 	
+	/**
+	 * @return Whether this function is pure, i.e. its results only depend on its arguments.
+	 * @see #setPure(boolean)
+	 */
+	public boolean isPure() {
+		return cache != null;
+	}
+
+	/**
+	 * Marks this function as pure or impure. A pure function must always return the same values for the same arguments
+	 * and may not have any side effects, as its results are cached and it is not executed again for cached arguments.
+	 */
+	public void setPure(boolean pure) {
+		if (pure != isPure())
+			cache = pure ? new FunctionCache() : null;
+	}
+
+	/**
+	 * @return The cache of the results of this function, or {@code null} if this function is not pure.
+	 */
+	public @Nullable FunctionCache getCache() {
+		return cache;
+	}
+	
 	// FIXME what happens with a delay in a function?
 	
 	/**
@@ -103,6 +132,14 @@ public abstract class Function<T> {
 			ps[i] = val;
 		}
 		
+		FunctionCache cache = this.cache;
+		if (cache != null) {
+			//noinspection unchecked
+			T[] cached = (T[]) cache.get(ps);
+			if (cached != null)
+				return cached.length > 0 ? cached : null;
+		}
+
 		// Execute function contents
 		T[] r = execute(e, ps);
 		// Assert that return value type makes sense
@@ -110,6 +147,9 @@ public abstract class Function<T> {
 			|| (r.length <= 1 || !sign.isSingle()) && !CollectionUtils.contains(r, null)
 			&& sign.getReturnType().getC().isAssignableFrom(r.getClass().getComponentType())
 			: this + "; " + Arrays.toString(r);
+
+		if (cache != null)
+			cache.put(ps, r);
 				
 		// If return value is empty array, return null
 		// Otherwise, return the value (nullable)
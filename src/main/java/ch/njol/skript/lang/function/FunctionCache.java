@@ -0,0 +1,101 @@
+package ch.njol.skript.lang.function;
+
+import ch.njol.skript.registrations.Classes;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the results of a {@link Function#isPure() pure} function, keyed by its arguments.
+ * The least recently used result is evicted once the cache is full.
+ */
+public final class FunctionCache {
+
+	/**
+	 * The maximum amount of results cached per function.
+	 */
+	public static final int MAX_SIZE = 256;
+
+	private static final Object[] NO_RESULT = new Object[0];
+
+	private final Map<List<List<Object>>, Object[]> results = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<List<Object>>, Object[]> eldest) {
+			if (size() <= MAX_SIZE)
+				return false;
+			evictions.increment();
+			return true;
+		}
+	};
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param params The arguments of the function, including default values
+	 * @return A copy of the cached result, which is empty if the function returned nothing,
+	 * or {@code null} if no result is cached for the given arguments.
+	 */
+	public Object @Nullable [] get(Object[][] params) {
+		Object[] result;
+		synchronized (results) {
+			result = results.get(key(params, false));
+		}
+		if (result == null) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return result.length == 0 ? result : (Object[]) Classes.clone(result);
+	}
+
+	/**
+	 * Caches the result of the function for the given arguments.
+	 * Both are cloned, so that neither the caller nor the function can change the cached values.
+	 *
+	 * @param params The arguments of the function, including default values
+	 * @param result The result of the function
+	 */
+	public void put(Object[][] params, Object @Nullable [] result) {
+		List<List<Object>> key = key(params, true);
+		Object[] value = result == null || result.length == 0 ? NO_RESULT : (Object[]) Classes.clone(result);
+		synchronized (results) {
+			results.put(key, value);
+		}
+	}
+
+	/**
+	 * Removes all cached results.
+	 */
+	public void clear() {
+		synchronized (results) {
+			results.clear();
+		}
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	private static List<List<Object>> key(Object[][] params, boolean copy) {
+		List<List<Object>> key = new ArrayList<>(params.length);
+		for (Object[] param : params)
+			key.add(Arrays.asList(copy ? (Object[]) Classes.clone(param) : param));
+		return key;
+	}
+
+}
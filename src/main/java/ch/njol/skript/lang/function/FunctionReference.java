@@ -49,11 +49,22 @@ public class FunctionReference<T> implements Contract, Executable<Event, T[]> {
 	 */
 	private boolean singleListParam;
 
+	/**
+	 * If every parameter of the function is single and given by this reference,
+	 * so that each argument is exactly one value.
+	 */
+	private boolean singleParams;
+
 	/**
 	 * Definitions of function parameters.
 	 */
 	private final Expression<?>[] parameters;
 
+	/**
+	 * Whether the values of each parameter never have to be cloned, see {@link Classes#isImmutable(Class)}.
+	 */
+	private boolean[] immutableParams = new boolean[0];
+
 	/**
 	 * Indicates if the caller expects this function to return a single value.
 	 * Used for verifying correctness of the function signature.
@@ -242,10 +253,22 @@ public class FunctionReference<T> implements Contract, Executable<Event, T[]> {
 			}
 		}
 
+		singleParams = !singleListParam && parameters.length == sign.getMaxParameters();
+		immutableParams = new boolean[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			if (singleParams) // a single list parameter takes all arguments, so there may be more arguments than parameters
+				singleParams = sign.parameters[i].single;
+			immutableParams[i] = Classes.isImmutable(parameters[i].getReturnType());
+		}
+
 		//noinspection unchecked
 		signature = (Signature<? extends T>) sign;
 		sign.calls.add(this);
 
+		// Bind the function right away if it has already been loaded
+		//noinspection unchecked
+		function = (Function<? extends T>) Functions.getFunction(functionName, script);
+
 		Contract contract = sign.getContract();
 		if (contract != null)
 			this.contract = contract;
@@ -263,34 +286,60 @@ public class FunctionReference<T> implements Contract, Executable<Event, T[]> {
 		return false;
 	}
 
-	protected T @Nullable [] execute(Event event) {
-		// If needed, acquire the function reference
-		if (function == null)
+	/**
+	 * @return The function this reference calls, resolving it if it has not been bound yet.
+	 */
+	private @Nullable Function<? extends T> resolveFunction() {
+		Function<? extends T> function = this.function;
+		if (function == null) {
 			//noinspection unchecked
-			function = (Function<? extends T>) Functions.getFunction(functionName, script);
+			this.function = function = (Function<? extends T>) Functions.getFunction(functionName, script);
+			if (function == null) // It might be impossible to resolve functions in some cases!
+				Skript.error("Couldn't resolve call for '" + functionName + "'.");
+		}
+		return function;
+	}
 
-		if (function == null) { // It might be impossible to resolve functions in some cases!
-			Skript.error("Couldn't resolve call for '" + functionName + "'.");
+	protected T @Nullable [] execute(Event event) {
+		Function<? extends T> function = resolveFunction();
+		if (function == null)
 			return null; // Return nothing and hope it works
-		}
 
 		// Prepare parameter values for calling
 		Object[][] params = new Object[singleListParam ? 1 : parameters.length][];
-		if (singleListParam && parameters.length > 1) { // All parameters to one list
+		if (singleParams) { // Every argument is one value, no need to copy arrays
+			for (int i = 0; i < parameters.length; i++) {
+				Object[] array = parameters[i].getArray(event);
+				if (array.length == 0) {
+					params[i] = array;
+				} else {
+					// Don't allow mutating across function boundary; same hack is applied to variables
+					params[i] = new Object[] {immutableParams[i] ? array[0] : Classes.clone(array[0])};
+				}
+			}
+		} else if (singleListParam && parameters.length > 1) { // All parameters to one list
 			List<Object> l = new ArrayList<>();
-			for (Expression<?> parameter : parameters)
-				l.addAll(Arrays.asList(parameter.getArray(event)));
+			boolean immutable = true;
+			for (int i = 0; i < parameters.length; i++) {
+				l.addAll(Arrays.asList(parameters[i].getArray(event)));
+				immutable &= immutableParams[i];
+			}
 			params[0] = l.toArray();
 
 			// Don't allow mutating across function boundary; same hack is applied to variables
-			for (int i = 0; i < params[0].length; i++) {
-				params[0][i] = Classes.clone(params[0][i]);
+			if (!immutable) {
+				for (int i = 0; i < params[0].length; i++) {
+					params[0][i] = Classes.clone(params[0][i]);
+				}
 			}
 		} else { // Use parameters in normal way
 			for (int i = 0; i < parameters.length; i++) {
 				Object[] array = parameters[i].getArray(event);
 				params[i] = Arrays.copyOf(array, array.length);
 				// Don't allow mutating across function boundary; same hack is applied to variables
+				// Values that can't be mutated are passed as they are
+				if (immutableParams[i])
+					continue;
 				for (int j = 0; j < params[i].length; j++) {
 					params[i][j] = Classes.clone(params[i][j]);
 				}
@@ -345,15 +394,9 @@ public class FunctionReference<T> implements Contract, Executable<Event, T[]> {
 
 	@Override
 	public T[] execute(Event event, Object... arguments) {
-		// If needed, acquire the function reference
+		Function<? extends T> function = resolveFunction();
 		if (function == null)
-			//noinspection unchecked
-			function = (Function<? extends T>) Functions.getFunction(functionName, script);
-
-		if (function == null) { // It might be impossible to resolve functions in some cases!
-			Skript.error("Couldn't resolve call for '" + functionName + "'.");
 			return null; // Return nothing and hope it works
-		}
 		// We shouldn't trust the caller provided an array of arrays
 		Object[][] consigned = consign(arguments);
 		try {
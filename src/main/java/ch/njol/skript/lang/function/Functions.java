@@ -14,10 +14,10 @@ import org.skriptlang.skript.lang.script.Script;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Static methods to work with functions.
@@ -37,7 +37,7 @@ public abstract class Functions {
 	/**
 	 * Function namespaces.
 	 */
-	private static final Map<Namespace.Key, Namespace> namespaces = new HashMap<>();
+	private static final Map<Namespace.Key, Namespace> namespaces = new ConcurrentHashMap<>();
 
 	/**
 	 * Namespace of Java functions.
@@ -52,7 +52,7 @@ public abstract class Functions {
 	/**
 	 * Namespaces of functions that are globally available.
 	 */
-	private static final Map<String, Namespace> globalFunctions = new HashMap<>();
+	private static final Map<String, Namespace> globalFunctions = new ConcurrentHashMap<>();
 
 	static boolean callFunctionEvents = false;
 
@@ -346,9 +346,11 @@ public abstract class Functions {
 		// Queue references to signatures we have for revalidation
 		// Can't validate here, because other scripts might be loaded soon
 		for (Signature<?> sign : namespace.getSignatures()) {
-			for (FunctionReference<?> ref : sign.calls) {
-				if (!script.equals(ref.script)) {
-					toValidate.add(ref);
+			synchronized (sign.calls) {
+				for (FunctionReference<?> ref : sign.calls) {
+					if (!script.equals(ref.script)) {
+						toValidate.add(ref);
+					}
 				}
 			}
 		}
@@ -371,9 +373,11 @@ public abstract class Functions {
 			}
 		}
 
-		for (FunctionReference<?> ref : signature.calls) {
-			if (!signature.script.equals(ref.script))
-				toValidate.add(ref);
+		synchronized (signature.calls) {
+			for (FunctionReference<?> ref : signature.calls) {
+				if (!signature.script.equals(ref.script))
+					toValidate.add(ref);
+			}
 		}
 	}
 
@@ -381,6 +385,27 @@ public abstract class Functions {
 		for (FunctionReference<?> c : toValidate)
 			c.validateFunction(false);
 		toValidate.clear();
+
+		// pure functions may call functions that have changed
+		for (Function<?> function : getPureFunctions()) {
+			FunctionCache cache = function.getCache();
+			if (cache != null)
+				cache.clear();
+		}
+	}
+
+	/**
+	 * @return All currently loaded pure functions, whose results are cached.
+	 */
+	public static List<Function<?>> getPureFunctions() {
+		List<Function<?>> functions = new ArrayList<>();
+		for (Namespace namespace : namespaces.values()) {
+			for (Function<?> function : namespace.getFunctions()) {
+				if (function.isPure())
+					functions.add(function);
+			}
+		}
+		return functions;
 	}
 
 	/**
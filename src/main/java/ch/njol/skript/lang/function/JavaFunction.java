@@ -74,6 +74,16 @@ public abstract class JavaFunction<T> extends Function<T> {
 		return this;
 	}
 
+	/**
+	 * Marks this function as pure, see {@link #setPure(boolean)}.
+	 *
+	 * @return This JavaFunction object
+	 */
+	public JavaFunction<T> pure() {
+		setPure(true);
+		return this;
+	}
+
 	public String @Nullable [] getDescription() {
 		return description;
 	}
@@ -3,8 +3,8 @@ package ch.njol.skript.lang.function;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.Objects;
 
 /**
@@ -133,8 +133,9 @@ public class Namespace {
 	private final Map<Info, Function<?>> functions;
 
 	public Namespace() {
-		this.signatures = new HashMap<>();
-		this.functions = new HashMap<>();
+		// function bodies of a script may be loaded in parallel
+		this.signatures = new ConcurrentHashMap<>();
+		this.functions = new ConcurrentHashMap<>();
 	}
 
 	public @Nullable Signature<?> getSignature(String name, boolean local) {
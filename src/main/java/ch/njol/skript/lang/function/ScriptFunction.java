@@ -96,4 +96,11 @@ public class ScriptFunction<T> extends Function<T> implements ReturnHandler<T> {
 		return getReturnType() != null ? getReturnType().getC() : null;
 	}
 
+	/**
+	 * @return The trigger containing the code of this function.
+	 */
+	public Trigger getTrigger() {
+		return trigger;
+	}
+
 }
@@ -0,0 +1,270 @@
+package ch.njol.skript.lang.parser;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.SkriptAddon;
+import ch.njol.skript.SkriptConfig;
+import ch.njol.skript.aliases.Aliases;
+import ch.njol.skript.aliases.ScriptAliases;
+import ch.njol.skript.command.Argument;
+import ch.njol.skript.command.Commands;
+import ch.njol.skript.lang.ParseContext;
+import ch.njol.skript.lang.TriggerSection;
+import ch.njol.skript.structures.StructOptions.OptionsData;
+import ch.njol.skript.variables.TypeHints;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.Nullable;
+import org.skriptlang.skript.lang.experiment.Experiment;
+import org.skriptlang.skript.lang.experiment.ExperimentSet;
+import org.skriptlang.skript.lang.script.Script;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which syntax element and pattern successfully parsed a line,
+ * so that the next load of that line can try this candidate before falling back to the full search.
+ * <p>
+ * Hints can be persisted between server starts. A persisted file is only used when it was written
+ * by the exact same Skript version, server version and set of addons, as the available syntax may differ otherwise.
+ *
+ * @see SkriptConfig#cacheParseHints
+ */
+public final class ParseHints {
+
+	private static final String FILE_NAME = "parse-hints.txt";
+
+	/**
+	 * Hints read from the cache file, only used until the line is parsed again in this session.
+	 */
+	private static final Map<String, Hint> loadedHints = new ConcurrentHashMap<>();
+
+	/**
+	 * Hints recorded in this session, these are the ones written to the cache file.
+	 */
+	private static final Map<String, Hint> recordedHints = new ConcurrentHashMap<>();
+
+	private ParseHints() {}
+
+	/**
+	 * The syntax element and pattern that successfully parsed a line.
+	 *
+	 * @param elementClass The fully qualified name of the syntax element's class
+	 * @param patternIndex The index of the matched pattern
+	 */
+	public record Hint(String elementClass, int patternIndex) {}
+
+	/**
+	 * @return Whether parse hints should be used, which is only the case while a script is being loaded.
+	 */
+	public static boolean isEnabled(ParserInstance parser) {
+		return SkriptConfig.cacheParseHints.value() && parser.isActive();
+	}
+
+	/**
+	 * Creates the key of a line, which includes everything that may change the outcome of parsing it
+	 * apart from the registered syntax: the current events, sections, command arguments and type hints,
+	 * as well as the experiments, aliases and options of the current script.
+	 *
+	 * @param expr The trimmed line
+	 * @param flags The parse flags
+	 * @param context The parse context
+	 * @param source An identifier of the syntax elements the line is parsed against
+	 * @param parser The parser instance the line is parsed in
+	 */
+	public static String key(String expr, int flags, ParseContext context, String source, ParserInstance parser) {
+		StringBuilder key = new StringBuilder(expr.length() + 128)
+			.append(source).append('\n')
+			.append(context.name()).append('\n')
+			.append(flags).append('\n')
+			.append(parser.getHasDelayBefore().name()).append('\n');
+		Class<? extends Event>[] events = parser.getCurrentEvents();
+		if (events != null) {
+			for (Class<? extends Event> event : events)
+				key.append(event.getName()).append(',');
+		}
+		key.append('\n');
+		for (TriggerSection section : parser.getCurrentSections())
+			key.append(section.getClass().getName()).append(',');
+		key.append('\n');
+		List<Argument<?>> arguments = Commands.getCurrentArguments();
+		if (arguments != null) {
+			for (Argument<?> argument : arguments)
+				key.append(argument).append(',');
+		}
+		key.append('\n');
+		key.append(TypeHints.stableHash()).append('\n');
+		key.append(parser.getData(ScriptKeyData.class).get());
+		return key.append('\n').append(expr).toString();
+	}
+
+	static {
+		ParserInstance.registerData(ScriptKeyData.class, ScriptKeyData::new);
+	}
+
+	/**
+	 * Caches the part of the keys describing the experiments, aliases and options of the current script,
+	 * which is only recomputed when any of these were added to.
+	 * These are only added to while a script is loaded, as the script is loaded entirely again when they change.
+	 */
+	private static final class ScriptKeyData extends ParserInstance.Data {
+
+		private @Nullable Script script;
+		private int experimentCount, aliasCount, optionCount;
+		private String key = "";
+
+		private ScriptKeyData(ParserInstance parserInstance) {
+			super(parserInstance);
+		}
+
+		private String get() {
+			Script script = getParser().getCurrentScript();
+			ExperimentSet experiments = script.getData(ExperimentSet.class);
+			ScriptAliases aliases = Aliases.getScriptAliases(script);
+			OptionsData options = script.getData(OptionsData.class);
+			int experimentCount = experiments != null ? experiments.size() : 0;
+			int aliasCount = aliases != null ? aliases.provider.getAliasCount() : 0;
+			int optionCount = options != null ? options.getOptions().size() : 0;
+			if (script == this.script && experimentCount == this.experimentCount
+					&& aliasCount == this.aliasCount && optionCount == this.optionCount)
+				return key;
+
+			StringBuilder key = new StringBuilder();
+			if (experiments != null) {
+				new TreeSet<>(experiments.stream().map(Experiment::codeName).toList())
+					.forEach(experiment -> key.append(experiment).append(','));
+			}
+			key.append('\n');
+			// the hash codes of strings are stable, so these can be compared between server starts
+			if (aliases != null)
+				key.append(aliasCount).append(':').append(aliases.provider.getAliasNames().hashCode());
+			key.append('\n');
+			if (options != null)
+				key.append(optionCount).append(':').append(options.getOptions().hashCode());
+
+			this.script = script;
+			this.experimentCount = experimentCount;
+			this.aliasCount = aliasCount;
+			this.optionCount = optionCount;
+			this.key = key.toString();
+			return this.key;
+		}
+
+	}
+
+	public static @Nullable Hint get(String key) {
+		Hint hint = recordedHints.get(key);
+		return hint != null ? hint : loadedHints.get(key);
+	}
+
+	public static void put(String key, Hint hint) {
+		recordedHints.put(key, hint);
+	}
+
+	/**
+	 * Reads the cache file from the given folder, replacing all hints currently known.
+	 * Nothing is read if the file was written by a different Skript version, server version or set of addons.
+	 */
+	public static void load(Path folder) {
+		loadedHints.clear();
+		recordedHints.clear();
+		try (BufferedReader reader = Files.newBufferedReader(folder.resolve(FILE_NAME), StandardCharsets.UTF_8)) {
+			if (!header().equals(reader.readLine()))
+				return;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int indexSeparator = line.lastIndexOf('\t');
+				int classSeparator = indexSeparator == -1 ? -1 : line.lastIndexOf('\t', indexSeparator - 1);
+				if (classSeparator == -1)
+					continue;
+				int patternIndex;
+				try {
+					patternIndex = Integer.parseInt(line.substring(indexSeparator + 1));
+				} catch (NumberFormatException e) {
+					continue;
+				}
+				loadedHints.put(unescape(line.substring(0, classSeparator)),
+					new Hint(line.substring(classSeparator + 1, indexSeparator), patternIndex));
+			}
+		} catch (NoSuchFileException ignored) {
+		} catch (IOException e) {
+			Skript.exception(e, "Failed to read the parse hints cache");
+		}
+		if (Skript.logHigh())
+			Skript.info("Loaded " + loadedHints.size() + " parse hints");
+	}
+
+	/**
+	 * Writes all hints recorded in this session to the cache file in the given folder.
+	 * Lines that were not parsed in this session are dropped from the file.
+	 */
+	public static void save(Path folder) {
+		try (BufferedWriter writer = Files.newBufferedWriter(folder.resolve(FILE_NAME), StandardCharsets.UTF_8)) {
+			writer.write(header());
+			writer.newLine();
+			for (Map.Entry<String, Hint> entry : recordedHints.entrySet()) {
+				writer.write(escape(entry.getKey()));
+				writer.write('\t');
+				writer.write(entry.getValue().elementClass());
+				writer.write('\t');
+				writer.write(Integer.toString(entry.getValue().patternIndex()));
+				writer.newLine();
+			}
+		} catch (IOException e) {
+			Skript.exception(e, "Failed to write the parse hints cache");
+		}
+		loadedHints.clear();
+	}
+
+	/**
+	 * @return The Skript and server versions and all addons with their versions, in a stable order.
+	 */
+	private static String header() {
+		TreeSet<String> addons = new TreeSet<>();
+		for (SkriptAddon addon : Skript.getAddons())
+			addons.add(addon.plugin.getName() + " " + addon.plugin.getDescription().getVersion());
+		return "Skript " + Skript.getVersion() + "; " + Bukkit.getVersion() + "; " + String.join(", ", addons);
+	}
+
+	private static String escape(String string) {
+		StringBuilder builder = new StringBuilder(string.length() + 8);
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			switch (c) {
+				case '\\' -> builder.append("\\\\");
+				case '\t' -> builder.append("\\t");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				default -> builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+	private static String unescape(String string) {
+		StringBuilder builder = new StringBuilder(string.length());
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (c == '\\' && i + 1 < string.length()) {
+				c = string.charAt(++i);
+				switch (c) {
+					case 't' -> c = '\t';
+					case 'n' -> c = '\n';
+					case 'r' -> c = '\r';
+				}
+			}
+			builder.append(c);
+		}
+		return builder.toString();
+	}
+
+}
@@ -33,4 +33,9 @@ public class SimpleEvent extends SkriptEvent {
 		return "simple event";
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -1,7 +1,8 @@
 package ch.njol.skript.log;
 
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -10,7 +11,7 @@ import org.jetbrains.annotations.Nullable;
  */
 public class HandlerList implements Iterable<LogHandler> {
 	
-	private final LinkedList<LogHandler> list = new LinkedList<>();
+	private final Deque<LogHandler> list = new ArrayDeque<>();
 	
 	public void add(LogHandler h) {
 		list.addFirst(h);
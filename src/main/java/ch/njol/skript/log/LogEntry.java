@@ -8,6 +8,7 @@ import ch.njol.skript.util.Utils;
 import org.bukkit.ChatColor;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 public class LogEntry {
@@ -15,7 +16,14 @@ public class LogEntry {
 	public final Level level;
 	public final int quality;
 
-	public final String message;
+	/**
+	 * The message of this entry.
+	 * For entries created from a message supplier, this is {@code null} until the message is first requested.
+	 * @deprecated Use {@link #getMessage()} instead, which also creates the message of such entries.
+	 */
+	@Deprecated(forRemoval = true)
+	public @Nullable String message;
+	private @Nullable Supplier<String> messageSupplier;
 
 	@Nullable
 	public final Node node;
@@ -64,6 +72,19 @@ public class LogEntry {
 		from = tracked || Skript.debug() ? findCaller() : "";
 	}
 
+	/**
+	 * Creates an entry whose message is only created when it is needed, e.g. when the entry is printed.
+	 * This avoids building messages of errors that are discarded, which is common while parsing.
+	 */
+	public LogEntry(Level level, int quality, Supplier<String> message, @Nullable Node node) {
+		this.level = level;
+		this.quality = quality;
+		this.messageSupplier = message;
+		this.node = node;
+		this.tracked = false;
+		from = Skript.debug() ? findCaller() : "";
+	}
+
 	private static final String skriptLogPackageName = "" + SkriptLogger.class.getPackage().getName();
 
 	static String findCaller() {
@@ -90,6 +111,12 @@ public class LogEntry {
 	}
 
 	public String getMessage() {
+		String message = this.message;
+		if (message == null) {
+			assert messageSupplier != null;
+			this.message = message = messageSupplier.get();
+			messageSupplier = null;
+		}
 		return message;
 	}
 
@@ -98,17 +125,18 @@ public class LogEntry {
 	void discarded(String info) {
 		used = true;
 		if (tracked)
-			SkriptLogger.LOGGER.warning(" # LogEntry '" + message + "'" + from + " discarded" + findCaller() + "; " + (new Exception()).getStackTrace()[1] + "; " + info);
+			SkriptLogger.LOGGER.warning(" # LogEntry '" + getMessage() + "'" + from + " discarded" + findCaller() + "; " + (new Exception()).getStackTrace()[1] + "; " + info);
 	}
 
 	void logged() {
 		used = true;
 		if (tracked)
-			SkriptLogger.LOGGER.warning(" # LogEntry '" + message + "'" + from + " logged" + findCaller());
+			SkriptLogger.LOGGER.warning(" # LogEntry '" + getMessage() + "'" + from + " logged" + findCaller());
 	}
 
 	@Override
 	public String toString() {
+		String message = getMessage();
 		if (node == null || level.intValue() < Level.WARNING.intValue())
 			return message;
 
@@ -117,6 +145,7 @@ public class LogEntry {
 	}
 
 	public String toFormattedString() {
+		String message = getMessage();
 		if (level.intValue() < Level.WARNING.intValue())
 			return message;
 
@@ -6,6 +6,7 @@ import org.jetbrains.annotations.Contract;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 public class ParseLogHandler extends LogHandler {
@@ -94,7 +95,7 @@ public class ParseLogHandler extends LogHandler {
 	}
 
 	public void printError() {
-		printError(null);
+		printError((Supplier<String>) null);
 	}
 	
 	/**
@@ -103,25 +104,42 @@ public class ParseLogHandler extends LogHandler {
 	 * @param def Error to log if no error has been logged so far, can be null
 	 */
 	public void printError(@Nullable String def) {
+		printError(def == null ? null : () -> def);
+	}
+
+	/**
+	 * Prints the best error or the given error if no error has been logged.
+	 * The given error is only created if it is printed.
+	 *
+	 * @param def Supplies the error to log if no error has been logged so far, can be null
+	 */
+	public void printError(@Nullable Supplier<String> def) {
 		printedErrorOrLog = true;
 		stop();
 		LogEntry error = this.error;
 		if (error != null)
 			SkriptLogger.log(error);
 		else if (def != null)
-			SkriptLogger.log(new LogEntry(SkriptLogger.SEVERE, ErrorQuality.SEMANTIC_ERROR, def));
+			SkriptLogger.log(new LogEntry(SkriptLogger.SEVERE, ErrorQuality.SEMANTIC_ERROR.quality(), def, SkriptLogger.getNode()));
 		for (LogEntry e : log)
 			e.discarded("not printed");
 	}
 	
 	public void printError(String def, ErrorQuality quality) {
+		printError(() -> def, quality);
+	}
+
+	/**
+	 * Like {@link #printError(String, ErrorQuality)}, but only creates the given error if it is printed.
+	 */
+	public void printError(Supplier<String> def, ErrorQuality quality) {
 		printedErrorOrLog = true;
 		stop();
 		LogEntry error = this.error;
 		if (error != null && error.quality >= quality.quality())
 			SkriptLogger.log(error);
 		else
-			SkriptLogger.log(new LogEntry(SkriptLogger.SEVERE, quality, def));
+			SkriptLogger.log(new LogEntry(SkriptLogger.SEVERE, quality.quality(), def, SkriptLogger.getNode()));
 		for (LogEntry e : log)
 			e.discarded("not printed");
 	}
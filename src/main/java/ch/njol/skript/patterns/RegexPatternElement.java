@@ -46,7 +46,7 @@ public class RegexPatternElement extends PatternElement {
 					}
 				}
 			}
-			log.printError(null);
+			log.printError();
 			return null;
 		} finally {
 			log.stop();
@@ -409,6 +409,19 @@ public abstract class Classes {
 		return ci == null ? null : ci.getDefaultExpression();
 	}
 
+	/**
+	 * Checks whether all values of the given type never have to be cloned,
+	 * i.e. whether the {@link ClassInfo} of its closest registered superclass is {@link ClassInfo#isImmutable() immutable}.
+	 *
+	 * @param type The type of the values
+	 * @return Whether the values of the given type never have to be cloned
+	 */
+	public static boolean isImmutable(Class<?> type) {
+		if (type.isArray())
+			return false;
+		return getSuperClassInfo(type).isImmutable();
+	}
+
 	/**
 	 * Clones the given object by calling {@link ClassInfo#clone(Object)},
 	 * getting the {@link ClassInfo} from the closest registered superclass
@@ -418,7 +431,14 @@ public abstract class Classes {
 	public static Object clone(Object obj) {
 		if (obj == null)
 			return null;
-		if (obj.getClass().isArray()) {
+		if (obj instanceof Object[] array) {
+			Object[] clone = array.clone();
+			if (!isImmutable(array.getClass().getComponentType())) {
+				for (int i = 0; i < clone.length; i++)
+					clone[i] = clone(clone[i]);
+			}
+			return clone;
+		} else if (obj.getClass().isArray()) {
 			int length = Array.getLength(obj);
 			Object clone = Array.newInstance(obj.getClass().getComponentType(), length);
 			for (int i = 0; i < length; i++) {
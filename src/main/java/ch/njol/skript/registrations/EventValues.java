@@ -15,6 +15,8 @@ import org.skriptlang.skript.lang.converter.Converters;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class EventValues {
 
@@ -39,6 +41,18 @@ public class EventValues {
 	private final static List<EventValueInfo<?, ?>> futureEventValues = new ArrayList<>();
 	private final static List<EventValueInfo<?, ?>> pastEventValues = new ArrayList<>();
 
+	/**
+	 * Marks the absence of a converter in {@link #converterCache}, as it can't hold null values.
+	 */
+	private static final Converter<?, ?> NO_CONVERTER = event -> null;
+
+	/**
+	 * Caches the results of {@link #getEventValueConverter(Class, Class, int)} once registrations have been closed.
+	 */
+	private static final Map<ConverterKey, Converter<?, ?>> converterCache = new ConcurrentHashMap<>();
+
+	private record ConverterKey(Class<? extends Event> event, Class<?> type, int time) {}
+
 	/**
 	 * Get Event Values list for the specified time
 	 * @param time The time of the event values. One of
@@ -112,6 +126,7 @@ public class EventValues {
 		Skript.checkAcceptRegistrations();
 		List<EventValueInfo<?, ?>> eventValues = getEventValuesList(time);
 		EventValueInfo<E, T> element = new EventValueInfo<>(event, type, converter, excludeErrorMessage, excludes, time);
+		converterCache.clear();
 
 		for (int i = 0; i < eventValues.size(); i++) {
 			EventValueInfo<?, ?> info = eventValues.get(i);
@@ -260,10 +275,25 @@ public class EventValues {
 	 * @see #registerEventValue(Class, Class, Converter, int)
 	 * @see EventValueExpression#EventValueExpression(Class)
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T, E extends Event> @Nullable Converter<? super E, ? extends T> getEventValueConverter(
 		Class<E> event, Class<T> type, int time
 	) {
-		return getEventValueConverter(event, type, time, true);
+		// converters may still change while registrations are accepted
+		if (Skript.isAcceptRegistrations())
+			return getEventValueConverter(event, type, time, true);
+
+		ConverterKey key = new ConverterKey(event, type, time);
+		Converter<?, ?> cached = converterCache.get(key);
+		if (cached == null) {
+			Converter<? super E, ? extends T> converter = getEventValueConverter(event, type, time, true);
+			// excluded event values print an error each time they are looked up, so they are not cached
+			if (isExcluded(event))
+				return converter;
+			cached = converter == null ? NO_CONVERTER : converter;
+			converterCache.put(key, cached);
+		}
+		return cached == NO_CONVERTER ? null : (Converter<? super E, ? extends T>) cached;
 	}
 
 	@Nullable
@@ -388,6 +418,23 @@ public class EventValues {
 		return null;
 	}
 
+	/**
+	 * @return Whether any event value excludes the given event.
+	 */
+	private static boolean isExcluded(Class<? extends Event> event) {
+		for (int time : getTimeStates()) {
+			for (EventValueInfo<?, ?> info : getEventValuesList(time)) {
+				if (info.excludes == null)
+					continue;
+				for (Class<? extends Event> exclude : (Class<? extends Event>[]) info.excludes) {
+					if (exclude.isAssignableFrom(event))
+						return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Check if the event value states to exclude events.
 	 * False if the current EventValueInfo cannot operate in the provided event.
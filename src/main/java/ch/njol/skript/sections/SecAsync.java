@@ -0,0 +1,207 @@
+package ch.njol.skript.sections;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.SkriptConfig;
+import ch.njol.skript.config.SectionNode;
+import ch.njol.skript.doc.Description;
+import ch.njol.skript.doc.Examples;
+import ch.njol.skript.doc.Name;
+import ch.njol.skript.doc.Since;
+import ch.njol.skript.effects.Delay;
+import ch.njol.skript.lang.Expression;
+import ch.njol.skript.lang.Section;
+import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
+import ch.njol.skript.lang.Trigger;
+import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.lang.TriggerSection;
+import ch.njol.skript.lang.parser.ParserInstance;
+import ch.njol.skript.timings.SkriptTimings;
+import ch.njol.skript.variables.Variables;
+import ch.njol.util.Kleenean;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Name("Async")
+@Description({
+	"Runs the code in the section on a separate thread, so that slow calculations don't freeze the server. " +
+		"Once the section is done, the code after it continues on the server's main thread, as if there was a delay before it.",
+	"As most of Minecraft isn't thread-safe, only syntaxes which don't access the server, like variables, maths, " +
+		"texts, conditionals and loops, can be used in an async section. " +
+		"Use a <a href=\"#SecSync\">sync section</a> inside an async section to run other code on the main thread.",
+	"The amount of async sections that can run at the same time is limited by the 'async section threads' option in the config."
+})
+@Examples({
+	"async:",
+	"\tloop {scores::*}:",
+	"\t\tadd loop-value to {_total}",
+	"\tset {_average} to {_total} / size of {scores::*}",
+	"send \"The average score is %{_average}%\" to player"
+})
+@Since("INSERT VERSION")
+public class SecAsync extends Section {
+
+	static {
+		Skript.registerSection(SecAsync.class, "async[hronously]");
+	}
+
+	private static @Nullable ExecutorService executor;
+
+	private @Nullable TriggerItem actualNext;
+
+	@Override
+	public boolean init(Expression<?>[] exprs,
+						int matchedPattern,
+						Kleenean isDelayed,
+						ParseResult parseResult,
+						SectionNode sectionNode,
+						List<TriggerItem> triggerItems) {
+		// both the code in the section and the code after it run after the event
+		getParser().setHasDelayBefore(Kleenean.TRUE);
+		loadCode(sectionNode);
+		getParser().setHasDelayBefore(Kleenean.TRUE);
+		return true;
+	}
+
+	@Override
+	protected @Nullable TriggerItem walk(Event event) {
+		debug(event, true);
+		Delay.addDelayedEvent(event);
+		Object localVars = Variables.removeLocals(event); // Back up local variables
+
+		if (!Skript.getInstance().isEnabled()) // See https://github.com/SkriptLang/Skript/issues/3702
+			return null;
+
+		TriggerItem first = this.first;
+		TriggerItem next = actualNext;
+		getExecutor().execute(() -> {
+			// the event may still be used on the main thread, e.g. by other triggers, so its local variables must be kept apart
+			boolean completed;
+			Object asyncLocalVars;
+			Variables.startThreadLocals();
+			try {
+				// Re-set local variables
+				if (localVars != null)
+					Variables.setLocalVariables(event, localVars);
+
+				completed = first == null || TriggerItem.walk(first, event);
+
+				asyncLocalVars = Variables.removeLocals(event);
+			} finally {
+				Variables.stopThreadLocals();
+			}
+			if (!completed || next == null || !Skript.getInstance().isEnabled())
+				return;
+
+			Bukkit.getScheduler().runTask(Skript.getInstance(), () -> { // Walk to next item synchronously
+				if (asyncLocalVars != null)
+					Variables.setLocalVariables(event, asyncLocalVars);
+
+				Object timing = null;
+				if (SkriptTimings.enabled()) { // getTrigger call is not free, do it only if we must
+					Trigger trigger = getTrigger();
+					if (trigger != null)
+						timing = SkriptTimings.start(trigger.getDebugLabel());
+				}
+
+				TriggerItem.walk(next, event);
+				Variables.removeLocals(event); // Clean up local vars, we may be exiting now
+
+				SkriptTimings.stop(timing);
+			});
+		});
+		return null;
+	}
+
+	@Override
+	public SecAsync setNext(@Nullable TriggerItem next) {
+		// the code of the section must not continue with the code after it, as that has to run on the main thread
+		actualNext = next;
+		return this;
+	}
+
+	public @Nullable TriggerItem getActualNext() {
+		return actualNext;
+	}
+
+	@Override
+	public String toString(@Nullable Event event, boolean debug) {
+		return "async";
+	}
+
+	/**
+	 * Checks whether code parsed by the given parser will run off the main thread,
+	 * i.e. whether it is in an async section but not in a {@link SecSync sync section} inside of it.
+	 * Only {@link ThreadSafeSyntax thread-safe} syntax elements may be used in such code.
+	 */
+	public static boolean isAsync(ParserInstance parser) {
+		List<TriggerSection> sections = parser.getCurrentSections();
+		for (int i = sections.size(); i-- > 0;) {
+			TriggerSection section = sections.get(i);
+			if (section instanceof SecSync)
+				return false;
+			if (section instanceof SecAsync)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether exiting the given sections would continue with code outside an async or {@link SecSync sync section},
+	 * which isn't possible, as that code runs on a different thread.
+	 *
+	 * @param exitedSections The sections that are exited, apart from the outermost one after which the code continues,
+	 *                          or all sections if the trigger is stopped.
+	 * @return Whether the exited sections include an async or sync section.
+	 */
+	public static boolean exitsThread(List<? extends TriggerSection> exitedSections) {
+		for (TriggerSection section : exitedSections) {
+			if (section instanceof SecAsync || section instanceof SecSync)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @return The executor async sections run on, which is created when it's first needed.
+	 * @see SkriptConfig#asyncSectionThreads
+	 */
+	@SuppressWarnings("removal")
+	private static synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, SkriptConfig.asyncSectionThreads.value()), createThreadFactory());
+			Skript.closeOnDisable(executor::shutdownNow);
+			SecAsync.executor = executor;
+		}
+		return executor;
+	}
+
+	/**
+	 * @return A factory of virtual threads if they are available, otherwise of daemon platform threads.
+	 */
+	private static ThreadFactory createThreadFactory() {
+		String name = "Skript async section ";
+		try {
+			// virtual threads are only available on Java 21 and later
+			Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name, 1L);
+			return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+		} catch (ReflectiveOperationException | RuntimeException ignored) {
+			AtomicInteger count = new AtomicInteger();
+			return runnable -> {
+				Thread thread = new Thread(runnable, name + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+		}
+	}
+
+}
@@ -53,7 +53,7 @@ import java.util.List;
 	""
 })
 @Since("1.0")
-public class SecConditional extends Section {
+public class SecConditional extends Section implements ThreadSafeSyntax {
 
 	private static final SkriptPattern THEN_PATTERN = PatternCompiler.compile("then [run]");
 	private static final Patterns<ConditionalType> CONDITIONAL_PATTERNS = new Patterns<>(new Object[][] {
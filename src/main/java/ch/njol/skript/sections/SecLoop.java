@@ -40,7 +40,11 @@ import java.util.*;
 	"<b>List Variables</b>",
 	"When looping list variables, you can also use <code>loop-index</code> in addition to <code>loop-value</code> inside " +
 		"the loop. <code>loop-value</code> is the value of the currently looped variable, and <code>loop-index</code> " +
-		"is the last part of the variable's name (the part where the list variable has its asterisk *)."
+		"is the last part of the variable's name (the part where the list variable has its asterisk *).",
+	"",
+	"<b>Time Sliced Loops</b>",
+	"A time sliced loop continues in the next tick whenever it runs for longer than the time budget set in the config, " +
+		"so looping many values doesn't freeze the server. Any code in or after a time sliced loop may therefore run in a later tick."
 })
 @Examples({
 	"loop all players:",
@@ -64,20 +68,24 @@ import java.util.*;
 			"\t\tloop-value = 4",
 			"\t\tnext loop-value = 8",
 		"\tthen:",
-			"\t\t kill all players"
+			"\t\t kill all players",
+	"",
+	"time sliced loop blocks in radius 50 around player:",
+		"\tif loop-block is stone:",
+			"\t\tset loop-block to air"
 })
-@Since("1.0")
-public class SecLoop extends LoopSection {
+@Since("1.0, INSERT VERSION (time sliced)")
+public class SecLoop extends LoopSection implements ThreadSafeSyntax {
 
 	static {
-		Skript.registerSection(SecLoop.class, "loop %objects%");
+		Skript.registerSection(SecLoop.class, "[sliced:time sliced] loop %objects%");
 	}
 
 	protected @UnknownNullability Expression<?> expression;
 
-	private final transient Map<Event, Object> current = new WeakHashMap<>();
-	private final transient Map<Event, Iterator<?>> iteratorMap = new WeakHashMap<>();
-	private final transient Map<Event, Object> previous = new WeakHashMap<>();
+	private final transient Map<Event, Object> current = Collections.synchronizedMap(new WeakHashMap<>());
+	private final transient Map<Event, Iterator<?>> iteratorMap = Collections.synchronizedMap(new WeakHashMap<>());
+	private final transient Map<Event, Object> previous = Collections.synchronizedMap(new WeakHashMap<>());
 
 	protected @Nullable TriggerItem actualNext;
 	private boolean guaranteedToLoop;
@@ -95,7 +103,7 @@ public class SecLoop extends LoopSection {
 						List<TriggerItem> triggerItems) {
 		this.expression = LiteralUtils.defendExpression(exprs[0]);
 		if (!LiteralUtils.canInitSafely(expression)) {
-			Skript.error("Can't understand this loop: '" + parseResult.expr.substring(5) + "'");
+			Skript.error("Can't understand this loop: '" + parseResult.expr.substring(parseResult.expr.indexOf("loop ") + 5) + "'");
 			return false;
 		}
 
@@ -118,6 +126,8 @@ public class SecLoop extends LoopSection {
 		loopPeeking = exprs[0].supportsLoopPeeking();
 
 		guaranteedToLoop = guaranteedToLoop(expression);
+		if (parseResult.hasTag("sliced"))
+			setTimeSliced();
 		loadOptionalCode(sectionNode);
 		this.setInternalNext(this);
 
@@ -154,6 +164,8 @@ public class SecLoop extends LoopSection {
 			debug(event, false);
 			return actualNext;
 		} else {
+			if (sliceTime(event))
+				return null;
 			previous.put(event, current.get(event));
 			if (nextValue != null) {
 				this.store(event, nextValue);
@@ -177,7 +189,7 @@ public class SecLoop extends LoopSection {
 
 	@Override
 	public String toString(@Nullable Event event, boolean debug) {
-		return "loop " + expression.toString(event, debug);
+		return (timeSliced ? "time sliced " : "") + "loop " + expression.toString(event, debug);
 	}
 
 	public @Nullable Object getCurrent(Event event) {
@@ -0,0 +1,113 @@
+package ch.njol.skript.sections;
+
+import ch.njol.skript.Skript;
+import ch.njol.skript.config.SectionNode;
+import ch.njol.skript.doc.Description;
+import ch.njol.skript.doc.Examples;
+import ch.njol.skript.doc.Name;
+import ch.njol.skript.doc.Since;
+import ch.njol.skript.lang.Expression;
+import ch.njol.skript.lang.Section;
+import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.ThreadSafeSyntax;
+import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.util.Task;
+import ch.njol.skript.variables.Variables;
+import ch.njol.util.Kleenean;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+@Name("Sync")
+@Description({
+	"Runs the code in the section on the server's main thread, and waits until it is done before continuing.",
+	"This can only be used in an <a href=\"#SecAsync\">async section</a>, to use syntaxes which are not thread-safe. " +
+		"Delays can't be used in a sync section."
+})
+@Examples({
+	"async:",
+	"\tloop {scores::*}:",
+	"\t\tadd loop-value to {_total}",
+	"\tsync:",
+	"\t\tbroadcast \"The total score is %{_total}%\""
+})
+@Since("INSERT VERSION")
+public class SecSync extends Section implements ThreadSafeSyntax {
+
+	static {
+		Skript.registerSection(SecSync.class, "sync[hronously]");
+	}
+
+	private @Nullable TriggerItem actualNext;
+
+	@Override
+	public boolean init(Expression<?>[] exprs,
+						int matchedPattern,
+						Kleenean isDelayed,
+						ParseResult parseResult,
+						SectionNode sectionNode,
+						List<TriggerItem> triggerItems) {
+		if (!SecAsync.isAsync(getParser())) {
+			Skript.error("A sync section can only be used in an async section");
+			return false;
+		}
+		// the async section waits for the code to finish, so it must not be delayed
+		getParser().setHasDelayBefore(Kleenean.FALSE);
+		loadCode(sectionNode);
+		boolean delayed = !getParser().getHasDelayBefore().isFalse();
+		getParser().setHasDelayBefore(Kleenean.TRUE);
+		if (delayed) {
+			Skript.error("Delays can't be used in a sync section");
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	protected @Nullable TriggerItem walk(Event event) {
+		debug(event, true);
+		if (first == null)
+			return actualNext;
+		TriggerItem first = this.first;
+		Boolean completed;
+		if (Bukkit.isPrimaryThread()) {
+			completed = TriggerItem.walk(first, event);
+		} else {
+			// the local variables of the async section are only visible on its own thread, so they are moved to the main thread
+			Object localVars = Variables.removeLocals(event);
+			Object[] syncLocalVars = new Object[1];
+			completed = Task.callSync(() -> {
+				Object otherLocalVars = Variables.removeLocals(event);
+				Variables.setLocalVariables(event, localVars);
+				try {
+					return TriggerItem.walk(first, event);
+				} finally {
+					syncLocalVars[0] = Variables.removeLocals(event);
+					Variables.setLocalVariables(event, otherLocalVars);
+				}
+			});
+			Variables.setLocalVariables(event, syncLocalVars[0]);
+		}
+		// stop if the code failed or the server is shutting down
+		return Boolean.TRUE.equals(completed) ? actualNext : null;
+	}
+
+	@Override
+	public SecSync setNext(@Nullable TriggerItem next) {
+		// the code of the section must not continue with the code after it, as that has to run off the main thread
+		actualNext = next;
+		return this;
+	}
+
+	public @Nullable TriggerItem getActualNext() {
+		return actualNext;
+	}
+
+	@Override
+	public String toString(@Nullable Event event, boolean debug) {
+		return "sync";
+	}
+
+}
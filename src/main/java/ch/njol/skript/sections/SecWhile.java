@@ -15,7 +15,11 @@ import org.jetbrains.annotations.Nullable;
 import java.util.List;
 
 @Name("While Loop")
-@Description("While Loop sections are loops that will just keep repeating as long as a condition is met.")
+@Description({
+	"While Loop sections are loops that will just keep repeating as long as a condition is met.",
+	"A time sliced while loop continues in the next tick whenever it runs for longer than the time budget set in the config, " +
+		"so long loops don't freeze the server. Any code in or after a time sliced loop may therefore run in a later tick."
+})
 @Examples({
 	"while size of all players < 5:",
 	"\tsend \"More players are needed to begin the adventure\" to all players",
@@ -31,12 +35,16 @@ import java.util.List;
 	"while player is online:",
 	"\tgive player 1 dirt",
 	"\twait 1 second # without using a delay effect the server will crash",
+	"",
+	"time sliced while {_queue::*} is set:",
+	"\tset {_next} to first element of {_queue::*}",
+	"\tremove {_next} from {_queue::*}",
 })
-@Since("2.0, 2.6 (do while)")
-public class SecWhile extends LoopSection {
+@Since("2.0, 2.6 (do while), INSERT VERSION (time sliced)")
+public class SecWhile extends LoopSection implements ThreadSafeSyntax {
 
 	static {
-		Skript.registerSection(SecWhile.class, "[:do] while <.+>");
+		Skript.registerSection(SecWhile.class, "[sliced:time sliced] [:do] while <.+>");
 	}
 
 	@SuppressWarnings("NotNullFieldNotInitialized")
@@ -62,6 +70,8 @@ public class SecWhile extends LoopSection {
 			return false;
 
 		doWhile = parseResult.hasTag("do");
+		if (parseResult.hasTag("sliced"))
+			setTimeSliced();
 		loadOptionalCode(sectionNode);
 		super.setNext(this);
 		return true;
@@ -70,6 +80,8 @@ public class SecWhile extends LoopSection {
 	@Nullable
 	@Override
 	protected TriggerItem walk(Event event) {
+		if (sliceTime(event))
+			return null;
 		if ((doWhile && !ranDoWhile) || condition.check(event)) {
 			ranDoWhile = true;
 			currentLoopCounter.put(event, (currentLoopCounter.getOrDefault(event, 0L)) + 1);
@@ -99,7 +111,7 @@ public class SecWhile extends LoopSection {
 
 	@Override
 	public String toString(@Nullable Event event, boolean debug) {
-		return (doWhile ? "do " : "") + "while " + condition.toString(event, debug);
+		return (timeSliced ? "time sliced " : "") + (doWhile ? "do " : "") + "while " + condition.toString(event, debug);
 	}
 
 	@Override
@@ -53,6 +53,11 @@ public class StructAliases extends Structure {
 		return true;
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public Priority getPriority() {
 		return PRIORITY;
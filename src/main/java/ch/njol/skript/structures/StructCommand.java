@@ -10,6 +10,7 @@ import ch.njol.skript.command.CommandUsage;
 import ch.njol.skript.command.Commands;
 import ch.njol.skript.command.ScriptCommand;
 import ch.njol.skript.command.ScriptCommandEvent;
+import ch.njol.skript.config.Node;
 import ch.njol.skript.config.SectionNode;
 import ch.njol.skript.doc.Description;
 import ch.njol.skript.doc.Examples;
@@ -190,7 +191,8 @@ public class StructCommand extends Structure {
 		String arguments = matcher.group(3) == null ? "" : matcher.group(3);
 		StringBuilder pattern = new StringBuilder();
 
-		List<Argument<?>> currentArguments = Commands.currentArguments = new ArrayList<>(); //Mirre
+		List<Argument<?>> currentArguments = new ArrayList<>(); //Mirre
+		Commands.setCurrentArguments(currentArguments);
 		matcher = ARGUMENT_PATTERN.matcher(arguments);
 		int lastEnd = 0;
 		int optionals = 0;
@@ -281,13 +283,13 @@ public class StructCommand extends Structure {
 		if (Skript.debug() || node.debug())
 			Skript.debug("command " + desc + ":");
 
-		Commands.currentArguments = currentArguments;
+		Commands.setCurrentArguments(currentArguments);
 		try {
 			scriptCommand = new ScriptCommand(getParser().getCurrentScript(), command, pattern.toString(), currentArguments, description, prefix,
 				usage, aliases, permission, permissionMessage, cooldown, cooldownMessage, cooldownBypass, cooldownStorage,
 				executableBy, entryContainer.get("trigger", SectionNode.class, false));
 		} finally {
-			Commands.currentArguments = null;
+			Commands.setCurrentArguments(null);
 		}
 
 		if (Skript.logVeryHigh() && !Skript.debug())
@@ -340,6 +342,18 @@ public class StructCommand extends Structure {
 		}
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
+	@Override
+	public void reuse(Node node) {
+		Node triggerNode = ((SectionNode) node).get("trigger");
+		if (scriptCommand != null && triggerNode != null)
+			scriptCommand.getTrigger().setLineNumber(triggerNode.getLine());
+	}
+
 	@Override
 	public Priority getPriority() {
 		return PRIORITY;
@@ -1,6 +1,7 @@
 package ch.njol.skript.structures;
 
 import ch.njol.skript.Skript;
+import ch.njol.skript.config.Node;
 import ch.njol.skript.doc.NoDoc;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptEvent;
@@ -88,6 +89,16 @@ public class StructEvent extends Structure {
 		return event.getPriority();
 	}
 
+	@Override
+	public boolean isReusable() {
+		return event.isReusable();
+	}
+
+	@Override
+	public void reuse(Node node) {
+		event.reuse(node);
+	}
+
 	public SkriptEvent getSkriptEvent() {
 		return event;
 	}
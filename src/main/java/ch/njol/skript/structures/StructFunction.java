@@ -2,6 +2,7 @@ package ch.njol.skript.structures;
 
 import ch.njol.skript.ScriptLoader;
 import ch.njol.skript.Skript;
+import ch.njol.skript.config.Node;
 import ch.njol.skript.config.SectionNode;
 import ch.njol.skript.doc.Description;
 import ch.njol.skript.doc.Examples;
@@ -9,8 +10,10 @@ import ch.njol.skript.doc.Name;
 import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
+import ch.njol.skript.lang.function.Function;
 import ch.njol.skript.lang.function.FunctionEvent;
 import ch.njol.skript.lang.function.Functions;
+import ch.njol.skript.lang.function.ScriptFunction;
 import ch.njol.skript.lang.function.Signature;
 import ch.njol.skript.lang.parser.ParserInstance;
 import org.bukkit.event.Event;
@@ -26,7 +29,9 @@ import java.util.regex.Pattern;
 @Description({
 	"Functions are structures that can be executed with arguments/parameters to run code.",
 	"They can also return a value to the trigger that is executing the function.",
-	"Note that local functions come before global functions execution"
+	"Note that local functions come before global functions execution",
+	"Functions can be declared pure if they always return the same values for the same arguments and have no side effects. " +
+		"The results of pure functions are cached, so they are not executed again for arguments they have been called with recently."
 })
 @Examples({
 	"function sayMessage(message: text):",
@@ -36,20 +41,25 @@ import java.util.regex.Pattern;
 	"\treturn {_amount} of apple",
 	"",
 	"function getPoints(p: player) returns number:",
-	"\treturn {points::%{_p}%}"
+	"\treturn {points::%{_p}%}",
+	"",
+	"pure function fibonacci(n: integer) :: integer:",
+	"\tif {_n} <= 1:",
+	"\t\treturn {_n}",
+	"\treturn fibonacci({_n} - 1) + fibonacci({_n} - 2)"
 })
-@Since("2.2, 2.7 (local functions)")
+@Since("2.2, 2.7 (local functions), INSERT VERSION (pure functions)")
 public class StructFunction extends Structure {
 
 	public static final Priority PRIORITY = new Priority(400);
 
 	private static final Pattern SIGNATURE_PATTERN =
-			Pattern.compile("^(?:local )?function (" + Functions.functionNamePattern + ")\\((.*?)\\)(?:\\s*(?:::| returns )\\s*(.+))?$");
+			Pattern.compile("^(?:local )?(?:pure )?function (" + Functions.functionNamePattern + ")\\((.*?)\\)(?:\\s*(?:::| returns )\\s*(.+))?$");
 	private static final AtomicBoolean VALIDATE_FUNCTIONS = new AtomicBoolean();
 
 	static {
 		Skript.registerStructure(StructFunction.class,
-			"[:local] function <.+>"
+			"[:local] [:pure] function <.+>"
 		);
 	}
 
@@ -57,13 +67,17 @@ public class StructFunction extends Structure {
 	private SectionNode source;
 	@Nullable
 	private Signature<?> signature;
+	@Nullable
+	private Function<?> function;
 	private boolean local;
+	private boolean pure;
 
 	@Override
 	public boolean init(Literal<?>[] literals, int matchedPattern, ParseResult parseResult, @Nullable EntryContainer entryContainer) {
 		assert entryContainer != null; // cannot be null for non-simple structures
 		this.source = entryContainer.getSource();
 		local = parseResult.hasTag("local");
+		pure = parseResult.hasTag("pure");
 		return true;
 	}
 
@@ -99,7 +113,9 @@ public class StructFunction extends Structure {
 
 		assert signature != null;
 		// noinspection ConstantConditions - entry container cannot be null as this structure is not simple
-		Functions.loadFunction(parser.getCurrentScript(), source, signature);
+		function = Functions.loadFunction(parser.getCurrentScript(), source, signature);
+		if (function != null)
+			function.setPure(pure);
 
 		parser.deleteCurrentEvent();
 
@@ -124,6 +140,25 @@ public class StructFunction extends Structure {
 		VALIDATE_FUNCTIONS.set(true);
 	}
 
+	/**
+	 * @return The signature of this function, or null if it has not been pre-loaded successfully.
+	 */
+	public @Nullable Signature<?> getSignature() {
+		return signature;
+	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
+	@Override
+	public void reuse(Node node) {
+		source = (SectionNode) node;
+		if (function instanceof ScriptFunction<?> scriptFunction)
+			scriptFunction.getTrigger().setLineNumber(node.getLine());
+	}
+
 	@Override
 	public Priority getPriority() {
 		return PRIORITY;
@@ -131,7 +166,7 @@ public class StructFunction extends Structure {
 
 	@Override
 	public String toString(@Nullable Event event, boolean debug) {
-		return (local ? "local " : "") + "function";
+		return (local ? "local " : "") + (pure ? "pure " : "") + "function";
 	}
 
 }
@@ -10,7 +10,6 @@ import ch.njol.skript.doc.Name;
 import ch.njol.skript.doc.Since;
 import ch.njol.skript.lang.Literal;
 import ch.njol.skript.lang.SkriptParser.ParseResult;
-import ch.njol.util.StringUtils;
 import org.bukkit.event.Event;
 import org.jetbrains.annotations.Nullable;
 import org.skriptlang.skript.lang.entry.EntryContainer;
@@ -19,9 +18,8 @@ import org.skriptlang.skript.lang.script.ScriptData;
 import org.skriptlang.skript.lang.structure.Structure;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.regex.Matcher;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Name("Options")
 @Description({
@@ -85,6 +83,11 @@ public class StructOptions extends Structure {
 		getParser().getCurrentScript().removeData(OptionsData.class);
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public Priority getPriority() {
 		return PRIORITY;
@@ -97,23 +100,51 @@ public class StructOptions extends Structure {
 
 	public static final class OptionsData implements ScriptData {
 
-		private final Map<String, String> options = new HashMap<>();
+		private final Map<String, String> options = new ConcurrentHashMap<>();
 
 		/**
 		 * Replaces all options in the provided String using the options of this data.
 		 * @param string The String to replace options in.
-		 * @return A String with all options replaced, or the original String if the provided Script has no options.
+		 * @return A String with all options replaced, or the original String if it does not contain any options.
 		 */
-		@SuppressWarnings("ConstantConditions") // no way to get null as callback does not return null anywhere
 		public String replaceOptions(String string) {
-			return StringUtils.replaceAll(string, "\\{@(.+?)\\}", m -> {
-				String option = options.get(m.group(1));
+			int start = string.indexOf("{@");
+			if (start == -1)
+				return string;
+
+			StringBuilder builder = new StringBuilder(string.length() + 16);
+			int copied = 0;
+			while (start != -1) {
+				// option names are at least one character long and can't span multiple lines
+				int end = start + 3;
+				while (end < string.length() && string.charAt(end) != '}' && !isLineTerminator(string.charAt(end)))
+					end++;
+				if (end >= string.length())
+					break;
+				if (isLineTerminator(string.charAt(end)) || isLineTerminator(string.charAt(start + 2))) {
+					start = string.indexOf("{@", start + 1);
+					continue;
+				}
+
+				String option = options.get(string.substring(start + 2, end));
 				if (option == null) {
-					Skript.error("undefined option " + m.group());
-					return m.group();
+					Skript.error("undefined option " + string.substring(start, end + 1));
+				} else {
+					builder.append(string, copied, start).append(option);
+					copied = end + 1;
 				}
-				return Matcher.quoteReplacement(option);
-			});
+				start = string.indexOf("{@", end + 1);
+			}
+			if (copied == 0)
+				return string;
+			return builder.append(string, copied, string.length()).toString();
+		}
+
+		/**
+		 * @return Whether the given character ends a line, these can't be part of an option's name.
+		 */
+		private static boolean isLineTerminator(char c) {
+			return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
 		}
 
 		/**
@@ -62,6 +62,11 @@ public class StructUsing extends Structure {
 		return true;
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public Priority getPriority() {
 		return PRIORITY;
@@ -269,6 +269,11 @@ public class StructVariables extends Structure {
 		script.removeData(DefaultVariables.class);
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 	@Override
 	public Priority getPriority() {
 		return PRIORITY;
@@ -1,26 +1,203 @@
 package ch.njol.skript.util;
 
+import ch.njol.skript.Skript;
+import ch.njol.skript.bukkitutil.WorldUtils;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.jetbrains.annotations.Nullable;
 
-import ch.njol.skript.Skript;
-import ch.njol.util.NullableChecker;
-import ch.njol.util.coll.iterator.CheckedIterator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
+ * Iterates over all blocks whose centers are inside a sphere.
+ * <p>
+ * Only blocks inside the sphere are visited: for every row of blocks,
+ * the blocks inside the sphere are computed from the distance of the row to the center.
+ * The blocks are iterated chunk by chunk, so that consecutive blocks are usually in the same chunk.
+ *
  * @author Peter Güttinger
  */
-public class BlockSphereIterator extends CheckedIterator<Block> {
-	
-	public BlockSphereIterator(final Location center, final double radius) {
-		super(new AABB(center, radius + 0.5001, radius + 0.5001, radius + 0.5001).iterator(), new NullableChecker<Block>() {
-			private final double rSquared = radius * radius * Skript.EPSILON_MULT;
-			
-			@Override
-			public boolean check(final @Nullable Block b) {
-				return b != null && center.distanceSquared(b.getLocation().add(0.5, 0.5, 0.5)) < rSquared;
+public class BlockSphereIterator implements Iterator<Block> {
+
+	private final World world;
+	private final double centerX, centerY, centerZ;
+	private final double radiusSquared;
+
+	/**
+	 * The blocks in the bounding box of the sphere, limited to the height of the world.
+	 */
+	private final int minX, maxX, minY, maxY, minZ, maxZ;
+
+	/**
+	 * The chunk column that is currently iterated and its blocks within the bounding box.
+	 */
+	private int chunkX, chunkZ;
+	private int chunkMinX, chunkMaxX, chunkMinZ, chunkMaxZ;
+
+	/**
+	 * The current row of blocks, and the blocks of that row which are still to be iterated.
+	 */
+	private int y, z;
+	private int rowEndZ;
+	private int x, rowEndX;
+
+	/**
+	 * Set by {@link #range(double, double)}.
+	 */
+	private int rangeMin, rangeMax;
+
+	private boolean done;
+
+	public BlockSphereIterator(Location center, double radius) {
+		World world = center.getWorld();
+		if (world == null)
+			throw new IllegalArgumentException("The center of the sphere must have a world");
+		this.world = world;
+		centerX = center.getX();
+		centerY = center.getY();
+		centerZ = center.getZ();
+		radiusSquared = radius * radius * Skript.EPSILON_MULT;
+
+		boolean empty = !range(centerX, radiusSquared);
+		minX = rangeMin;
+		maxX = rangeMax;
+		empty |= !range(centerZ, radiusSquared);
+		minZ = rangeMin;
+		maxZ = rangeMax;
+		empty |= !range(centerY, radiusSquared);
+		minY = Math.max(rangeMin, WorldUtils.getWorldMinHeight(world));
+		maxY = Math.min(rangeMax, world.getMaxHeight() - 1);
+
+		if (empty || minY > maxY) {
+			done = true;
+			return;
+		}
+		chunkX = minX >> 4;
+		chunkZ = minZ >> 4;
+		startChunk();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (done)
+			return false;
+		while (x > rowEndX) {
+			if (!nextRow() && !nextChunk()) {
+				done = true;
+				return false;
 			}
-		});
+		}
+		return true;
 	}
+
+	@Override
+	public Block next() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+		return world.getBlockAt(x++, y, z);
+	}
+
+	/**
+	 * Moves to the first row of the current chunk column.
+	 */
+	private void startChunk() {
+		chunkMinX = Math.max(minX, chunkX << 4);
+		chunkMaxX = Math.min(maxX, (chunkX << 4) + 15);
+		chunkMinZ = Math.max(minZ, chunkZ << 4);
+		chunkMaxZ = Math.min(maxZ, (chunkZ << 4) + 15);
+		y = minY - 1;
+		z = 0;
+		rowEndZ = -1;
+		x = 0;
+		rowEndX = -1;
+	}
+
+	/**
+	 * Moves to the next row of blocks in the current chunk column.
+	 * The row may not contain any blocks inside the sphere, in which case it is empty.
+	 *
+	 * @return Whether there was another row in the current chunk column.
+	 */
+	private boolean nextRow() {
+		if (z < rowEndZ) {
+			z++;
+		} else {
+			// move to the next layer, and find the rows of this chunk column that are inside the sphere
+			while (true) {
+				if (y >= maxY)
+					return false;
+				y++;
+				double dy = y + 0.5 - centerY;
+				if (range(centerZ, radiusSquared - dy * dy)) {
+					z = Math.max(rangeMin, chunkMinZ);
+					rowEndZ = Math.min(rangeMax, chunkMaxZ);
+					if (z <= rowEndZ)
+						break;
+				}
+			}
+		}
+		double dy = y + 0.5 - centerY;
+		double dz = z + 0.5 - centerZ;
+		if (range(centerX, radiusSquared - dy * dy - dz * dz)) {
+			x = Math.max(rangeMin, chunkMinX);
+			rowEndX = Math.min(rangeMax, chunkMaxX);
+		} else {
+			x = 0;
+			rowEndX = -1;
+		}
+		return true;
+	}
+
+	/**
+	 * Moves to the next chunk column that intersects the bounding box of the sphere.
+	 *
+	 * @return Whether there was another chunk column.
+	 */
+	private boolean nextChunk() {
+		if (chunkX < maxX >> 4) {
+			chunkX++;
+		} else if (chunkZ < maxZ >> 4) {
+			chunkX = minX >> 4;
+			chunkZ++;
+		} else {
+			return false;
+		}
+		startChunk();
+		return true;
+	}
+
+	/**
+	 * Finds the blocks along one axis whose centers are closer to the given coordinate than the given distance,
+	 * and stores them in {@link #rangeMin} and {@link #rangeMax}.
+	 *
+	 * @param center The coordinate of the center of the sphere along the axis
+	 * @param distanceSquared The square of the distance
+	 * @return Whether there are any such blocks.
+	 */
+	private boolean range(double center, double distanceSquared) {
+		if (distanceSquared <= 0)
+			return false;
+		double distance = Math.sqrt(distanceSquared);
+		int min = (int) Math.ceil(center - distance - 0.5);
+		int max = (int) Math.floor(center + distance - 0.5);
+		// correct rounding errors of the square root
+		if (!isInside(min, center, distanceSquared))
+			min++;
+		else if (isInside(min - 1, center, distanceSquared))
+			min--;
+		if (!isInside(max, center, distanceSquared))
+			max--;
+		else if (isInside(max + 1, center, distanceSquared))
+			max++;
+		rangeMin = min;
+		rangeMax = max;
+		return min <= max;
+	}
+
+	private static boolean isInside(int block, double center, double distanceSquared) {
+		double distance = block + 0.5 - center;
+		return distance * distance < distanceSquared;
+	}
+
 }
@@ -0,0 +1,207 @@
+package ch.njol.skript.util;
+
+import ch.njol.skript.Skript;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the periodical tasks of Skript, e.g. {@link ch.njol.skript.events.EvtPeriodical periodical events},
+ * from a single repeating task instead of a task each.
+ * <p>
+ * Tasks are grouped by their period. In each tick, the tasks due run in the order of their periods,
+ * and tasks of the same period in the order they were scheduled in.
+ * Tasks of the same period can be staggered across ticks, so that they don't all run in the same tick.
+ * <p>
+ * Tasks may be scheduled and cancelled from any thread, but always run on the main thread.
+ */
+public final class PeriodicalScheduler {
+
+	private PeriodicalScheduler() {}
+
+	/**
+	 * The scheduled tasks, by their period in ticks.
+	 */
+	private static final Map<Long, Period> PERIODS = new ConcurrentSkipListMap<>();
+
+	/**
+	 * The execution statistics of the tasks, by their period in ticks.
+	 */
+	private static final Map<Long, PeriodStats> STATS = new ConcurrentSkipListMap<>();
+
+	private static final Object LOCK = new Object();
+
+	private static int taskID = -1;
+
+	/**
+	 * The amount of ticks the scheduler has run for.
+	 */
+	private static volatile long currentTick;
+
+	/**
+	 * Schedules a task to run periodically.
+	 *
+	 * @param period The period of the task in ticks
+	 * @param delay The ticks until the task runs for the first time
+	 * @param stagger Whether the task may run later than the given delay,
+	 * so that it doesn't run in the same ticks as other tasks of the same period.
+	 * @param task The task
+	 * @return The scheduled task, which must be {@link ScheduledTask#cancel() cancelled} when it should no longer run.
+	 */
+	public static ScheduledTask schedule(long period, long delay, boolean stagger, Runnable task) {
+		if (period < 1)
+			throw new IllegalArgumentException("The period must be at least one tick, but was " + period);
+		synchronized (LOCK) {
+			Period group = PERIODS.computeIfAbsent(period, Period::new);
+			if (stagger)
+				delay += group.size % period;
+			ScheduledTask scheduledTask = new ScheduledTask(group, Math.floorMod(currentTick + Math.max(delay, 1), period), task);
+			group.add(scheduledTask);
+			if (taskID == -1 && Skript.getInstance().isEnabled())
+				taskID = Bukkit.getScheduler().scheduleSyncRepeatingTask(Skript.getInstance(), PeriodicalScheduler::tick, 1, 1);
+			return scheduledTask;
+		}
+	}
+
+	/**
+	 * @return The execution statistics of all tasks that ran so far, by their period in ticks.
+	 */
+	public static @Unmodifiable Map<Long, PeriodStats> getStats() {
+		return Collections.unmodifiableMap(STATS);
+	}
+
+	private static void tick() {
+		long tick = ++currentTick;
+		for (Period period : PERIODS.values()) {
+			ScheduledTask[] tasks = period.phases.get(tick % period.ticks);
+			if (tasks == null)
+				continue;
+			long start = System.nanoTime();
+			for (ScheduledTask task : tasks) {
+				if (task.cancelled)
+					continue;
+				try {
+					task.task.run();
+				} catch (Exception e) {
+					Skript.exception(e, "An error occurred while running a periodical task");
+				}
+			}
+			PeriodStats stats = STATS.computeIfAbsent(period.ticks, ticks -> new PeriodStats());
+			stats.runs.add(tasks.length);
+			stats.nanos.add(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * The tasks of one period, by the tick they run in modulo the period.
+	 * The arrays of tasks are replaced instead of modified, so that they can be iterated while tasks are (un)scheduled.
+	 */
+	private static final class Period {
+
+		private final long ticks;
+		private final Map<Long, ScheduledTask[]> phases = new ConcurrentHashMap<>();
+		private int size;
+
+		private Period(long ticks) {
+			this.ticks = ticks;
+		}
+
+		private void add(ScheduledTask task) {
+			ScheduledTask[] tasks = phases.get(task.phase);
+			if (tasks == null) {
+				tasks = new ScheduledTask[] {task};
+			} else {
+				tasks = Arrays.copyOf(tasks, tasks.length + 1);
+				tasks[tasks.length - 1] = task;
+			}
+			phases.put(task.phase, tasks);
+			size++;
+		}
+
+		private void remove(ScheduledTask task) {
+			ScheduledTask[] tasks = phases.get(task.phase);
+			if (tasks == null)
+				return;
+			List<ScheduledTask> remaining = new ArrayList<>(Arrays.asList(tasks));
+			if (!remaining.remove(task))
+				return;
+			if (remaining.isEmpty()) {
+				phases.remove(task.phase);
+			} else {
+				phases.put(task.phase, remaining.toArray(new ScheduledTask[0]));
+			}
+			size--;
+		}
+
+	}
+
+	/**
+	 * A task scheduled with {@link #schedule(long, long, boolean, Runnable)}.
+	 */
+	public static final class ScheduledTask {
+
+		private final Period period;
+		private final long phase;
+		private final Runnable task;
+		private volatile boolean cancelled;
+
+		private ScheduledTask(Period period, long phase, Runnable task) {
+			this.period = period;
+			this.phase = phase;
+			this.task = task;
+		}
+
+		/**
+		 * Stops this task from running again.
+		 * The repeating task of the scheduler is stopped as well once no tasks are left.
+		 */
+		public void cancel() {
+			synchronized (LOCK) {
+				if (cancelled)
+					return;
+				cancelled = true;
+				period.remove(this);
+				if (period.size == 0)
+					PERIODS.remove(period.ticks);
+				if (PERIODS.isEmpty() && taskID != -1) {
+					Bukkit.getScheduler().cancelTask(taskID);
+					taskID = -1;
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Execution statistics of the tasks of a period.
+	 */
+	public static final class PeriodStats {
+
+		private final LongAdder runs = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+
+		/**
+		 * @return How often the tasks of the period ran in total.
+		 */
+		public long getRuns() {
+			return runs.sum();
+		}
+
+		/**
+		 * @return The total time the tasks of the period ran for, in milliseconds.
+		 */
+		public long getMillis() {
+			return nanos.sum() / 1_000_000L;
+		}
+
+	}
+
+}
@@ -16,28 +16,29 @@ import org.jetbrains.annotations.Nullable;
  * <li>ScriptLoader clears hints after each section has been parsed
  * <li>ScriptLoader enters and exists scopes as needed
  * </ul>
+ * Hints are tracked per thread, as structures may be loaded on multiple threads at once.
  */
 public class TypeHints {
 	
-	private static final Deque<Map<String, Class<?>>> typeHints = new ArrayDeque<>();
-	
-	static {
-		clear(); // Initialize type hints
-	}
+	private static final ThreadLocal<Deque<Map<String, Class<?>>>> TYPE_HINTS = ThreadLocal.withInitial(() -> {
+		Deque<Map<String, Class<?>>> typeHints = new ArrayDeque<>();
+		typeHints.push(new HashMap<>()); // Initialize type hints
+		return typeHints;
+	});
 	
 	public static void add(String variable, Class<?> hint) {
 		if (hint.equals(Object.class)) // Ignore useless type hint
 			return;
 		
 		// Take top of stack, without removing it
-		Map<String, Class<?>> hints = typeHints.getFirst();
+		Map<String, Class<?>> hints = TYPE_HINTS.get().getFirst();
 		hints.put(variable, hint);
 	}
 	
 	@Nullable
 	public static Class<?> get(String variable) {
 		// Go through stack of hints for different scopes
-		for (Map<String, Class<?>> hints : typeHints) {
+		for (Map<String, Class<?>> hints : TYPE_HINTS.get()) {
 			Class<?> hint = hints.get(variable);
 			if (hint != null) // Found in this scope
 				return hint;
@@ -46,15 +47,31 @@ public class TypeHints {
 		return null; // No type hint available
 	}
 	
+	/**
+	 * @return A hash of all type hints that are currently available, including their scopes.
+	 * As only names are hashed, the hash is the same across server starts.
+	 */
+	public static int stableHash() {
+		int hash = 1;
+		for (Map<String, Class<?>> hints : TYPE_HINTS.get()) {
+			int scopeHash = 0; // independent of the order of the hints
+			for (Map.Entry<String, Class<?>> hint : hints.entrySet())
+				scopeHash += hint.getKey().hashCode() ^ hint.getValue().getName().hashCode();
+			hash = 31 * hash + scopeHash;
+		}
+		return hash;
+	}
+	
 	public static void enterScope() {
-		typeHints.push(new HashMap<>());
+		TYPE_HINTS.get().push(new HashMap<>());
 	}
 	
 	public static void exitScope() {
-		typeHints.pop();
+		TYPE_HINTS.get().pop();
 	}
 	
 	public static void clear() {
+		Deque<Map<String, Class<?>>> typeHints = TYPE_HINTS.get();
 		typeHints.clear();
 		typeHints.push(new HashMap<>());
 	}
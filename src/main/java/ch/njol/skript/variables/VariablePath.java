@@ -0,0 +1,26 @@
+package ch.njol.skript.variables;
+
+import ch.njol.skript.lang.Variable;
+
+/**
+ * The name of a variable together with its parts, i.e. the name split by {@link Variable#SEPARATOR}.
+ * <p>
+ * A path allows accessing a variable without splitting its name again,
+ * see {@link Variables#getVariable(VariablePath, org.bukkit.event.Event, boolean)}.
+ * The name must already be in lower case if {@link Variables#caseInsensitiveVariables variables are case-insensitive},
+ * and the parts must be equal to {@link Variables#splitVariableName(String) splitting} the name.
+ *
+ * @param name the full name of the variable.
+ * @param parts the parts of the name.
+ */
+public record VariablePath(String name, String[] parts) {
+
+	/**
+	 * Creates a path by splitting the given name.
+	 * The name must already be in lower case if variables are case-insensitive.
+	 */
+	public static VariablePath of(String name) {
+		return new VariablePath(name, Variables.splitVariableName(name));
+	}
+
+}
@@ -43,6 +43,7 @@ import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
@@ -50,8 +51,9 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.regex.Pattern;
+import java.util.function.UnaryOperator;
 
 /**
  * Handles all things related to variables.
@@ -301,20 +303,32 @@ public class Variables {
 		return true;
 	}
 
-	/**
-	 * A pattern to split variable names using {@link Variable#SEPARATOR}.
-	 */
-	private static final Pattern VARIABLE_NAME_SPLIT_PATTERN = Pattern.compile(Pattern.quote(Variable.SEPARATOR));
-
 	/**
 	 * Splits the given variable name into its parts,
 	 * separated by {@link Variable#SEPARATOR}.
+	 * Trailing empty parts are removed, like {@link String#split(String)} does.
 	 *
 	 * @param name the variable name.
 	 * @return the parts.
 	 */
 	public static String[] splitVariableName(String name) {
-		return VARIABLE_NAME_SPLIT_PATTERN.split(name);
+		int separator = name.indexOf(Variable.SEPARATOR);
+		if (separator == -1)
+			return new String[] {name};
+
+		List<String> parts = new ArrayList<>();
+		int start = 0;
+		do {
+			parts.add(name.substring(start, separator));
+			start = separator + Variable.SEPARATOR.length();
+			separator = name.indexOf(Variable.SEPARATOR, start);
+		} while (separator != -1);
+		parts.add(name.substring(start));
+
+		int size = parts.size();
+		while (size > 0 && parts.get(size - 1).isEmpty())
+			size--;
+		return parts.subList(0, size).toArray(new String[0]);
 	}
 
 	/**
@@ -334,6 +348,42 @@ public class Variables {
 	 */
 	private static final Map<Event, VariablesMap> localVariables = new ConcurrentHashMap<>();
 
+	/**
+	 * The local variables of events whose code runs on the current thread only,
+	 * or {@code null} if the current thread uses {@link #localVariables}.
+	 *
+	 * @see #startThreadLocals()
+	 */
+	private static final ThreadLocal<@Nullable Map<Event, VariablesMap>> threadLocalVariables = new ThreadLocal<>();
+
+	/**
+	 * @return The map storing the local variables used on the current thread.
+	 */
+	private static Map<Event, VariablesMap> getLocalVariables() {
+		Map<Event, VariablesMap> map = threadLocalVariables.get();
+		return map != null ? map : localVariables;
+	}
+
+	/**
+	 * Separates the local variables used on the current thread from those of all other threads,
+	 * until {@link #stopThreadLocals()} is called.
+	 * <p>
+	 * This is used when code of an event continues on another thread while the event itself may still be in use,
+	 * e.g. in {@link ch.njol.skript.sections.SecAsync async sections}, as local variables are indexed by their event.
+	 */
+	public static void startThreadLocals() {
+		threadLocalVariables.set(new HashMap<>());
+	}
+
+	/**
+	 * Discards the local variables of the current thread, which then uses the local variables shared by all threads again.
+	 *
+	 * @see #startThreadLocals()
+	 */
+	public static void stopThreadLocals() {
+		threadLocalVariables.remove();
+	}
+
 	/**
 	 * Gets the {@link TreeMap} of all global variables.
 	 * <p>
@@ -374,7 +424,7 @@ public class Variables {
 	 */
 	@Nullable
 	public static VariablesMap removeLocals(Event event) {
-		return localVariables.remove(event);
+		return getLocalVariables().remove(event);
 	}
 
 	/**
@@ -390,7 +440,7 @@ public class Variables {
 	 */
 	public static void setLocalVariables(Event event, @Nullable Object map) {
 		if (map != null) {
-			localVariables.put(event, (VariablesMap) map);
+			getLocalVariables().put(event, (VariablesMap) map);
 		} else {
 			removeLocals(event);
 		}
@@ -404,7 +454,7 @@ public class Variables {
 	 * @return the copy.
 	 */
 	public static @Nullable Object copyLocalVariables(Event event) {
-		VariablesMap from = localVariables.get(event);
+		VariablesMap from = getLocalVariables().get(event);
 		if (from == null)
 			return null;
 
@@ -449,13 +499,36 @@ public class Variables {
 		} else {
 			n = name;
 		}
+		return getVariable(n, null, event, local);
+	}
 
+	/**
+	 * Returns the internal value of the requested variable,
+	 * like {@link #getVariable(String, Event, boolean)} but without splitting the name of list variables.
+	 * <p>
+	 * <b>Do not modify the returned value!</b>
+	 *
+	 * @param path the variable's path, with a name that is already in lower case if variables are case-insensitive.
+	 * @param event if {@code local} is {@code true}, this is the event
+	 *                 the local variable resides in.
+	 * @param local if this variable is a local or global variable.
+	 * @return an {@link Object} for a normal variable
+	 * or a {@code Map<String, Object>} for a list variable,
+	 * or {@code null} if the variable is not set.
+	 */
+	@Nullable
+	public static Object getVariable(VariablePath path, @Nullable Event event, boolean local) {
+		return getVariable(path.name(), path, event, local);
+	}
+
+	@Nullable
+	private static Object getVariable(String n, @Nullable VariablePath path, @Nullable Event event, boolean local) {
 		if (local) {
-			VariablesMap map = localVariables.get(event);
+			VariablesMap map = getLocalVariables().get(event);
 			if (map == null)
 				return null;
 
-			return map.getVariable(n);
+			return path != null ? map.getVariable(path) : map.getVariable(n);
 		} else {
 			// Prevent race conditions from returning variables with incorrect values
 			if (!changeQueue.isEmpty()) {
@@ -474,13 +547,48 @@ public class Variables {
 
 			try {
 				variablesLock.readLock().lock();
-				return variables.getVariable(n);
+				return path != null ? variables.getVariable(path) : variables.getVariable(n);
 			} finally {
 				variablesLock.readLock().unlock();
 			}
 		}
 	}
 
+	/**
+	 * Finds the indices of a list variable whose values are equal to the given value,
+	 * without comparing the value to every value of the list if possible.
+	 *
+	 * @param name the name of the list variable, ending in {@code ::*}.
+	 * @param value the value to find.
+	 * @param event if {@code local} is {@code true}, this is the event
+	 *                 the local variable resides in.
+	 * @param local if this variable is a local or global variable.
+	 * @return the matching indices in the order of the list,
+	 * or {@code null} if the values of the list have to be compared to the value instead.
+	 */
+	public static @Nullable List<String> getListIndicesOf(String name, Object value, @Nullable Event event, boolean local) {
+		assert name.endsWith(Variable.SEPARATOR + "*") : name;
+		if (caseInsensitiveVariables)
+			name = name.toLowerCase(Locale.ENGLISH);
+		boolean caseSensitive = SkriptConfig.caseSensitive.value();
+
+		if (local) {
+			VariablesMap map = getLocalVariables().get(event);
+			if (map == null)
+				return Collections.emptyList();
+			SortedSet<String> indices = map.getIndicesOf(name, value, caseSensitive);
+			return indices != null ? new ArrayList<>(indices) : null;
+		}
+
+		try {
+			variablesLock.readLock().lock();
+			SortedSet<String> indices = variables.getIndicesOf(name, value, caseSensitive);
+			return indices != null ? new ArrayList<>(indices) : null;
+		} finally {
+			variablesLock.readLock().unlock();
+		}
+	}
+
 	/**
 	 * Returns an iterator over the values of this list variable.
 	 *
@@ -570,28 +678,37 @@ public class Variables {
 		if (caseInsensitiveVariables) {
 			name = name.toLowerCase(Locale.ENGLISH);
 		}
+		setVariable(VariablePath.of(name), value, event, local);
+	}
 
+	/**
+	 * Sets a variable,
+	 * like {@link #setVariable(String, Object, Event, boolean)} but without splitting its name.
+	 *
+	 * @param path the variable's path, with a name that is already in lower case if variables are case-insensitive.
+	 *                Can be a "list variable::*", but {@code value}
+	 *                must be {@code null} in this case.
+	 * @param value The variable's value. Use {@code null}
+	 *                 to delete the variable.
+	 * @param event if {@code local} is {@code true}, this is the event
+	 *                 the local variable resides in.
+	 * @param local if this variable is a local or global variable.
+	 */
+	public static void setVariable(VariablePath path, @Nullable Object value, @Nullable Event event, boolean local) {
 		// Check if conversion is needed due to ClassInfo#getSerializeAs
 		if (value != null) {
-			assert !name.endsWith("::*");
-
-			ClassInfo<?> ci = Classes.getSuperClassInfo(value.getClass());
-			Class<?> sas = ci.getSerializeAs();
-
-			if (sas != null) {
-				value = Converters.convert(value, sas);
-				assert value != null : ci + ", " + sas;
-			}
+			assert !path.name().endsWith("::*");
+			value = convertToSerializeAs(value);
 		}
 
 		if (local) {
-			assert event != null : name;
+			assert event != null : path.name();
 
 			// Get the variables map and set the variable in it
-			VariablesMap map = localVariables.computeIfAbsent(event, e -> new VariablesMap());
-			map.setVariable(name, value);
+			VariablesMap map = getLocalVariables().computeIfAbsent(event, e -> new VariablesMap());
+			map.setVariable(path, value);
 		} else {
-			setVariable(name, value);
+			setVariable(path, value);
 		}
 	}
 
@@ -602,13 +719,23 @@ public class Variables {
 	 * @param value the value, or {@code null} to delete the variable.
 	 */
 	static void setVariable(String name, @Nullable Object value) {
+		setVariable(VariablePath.of(name), value);
+	}
+
+	/**
+	 * Sets the given global variable to the given value.
+	 *
+	 * @param path the variable's path.
+	 * @param value the value, or {@code null} to delete the variable.
+	 */
+	private static void setVariable(VariablePath path, @Nullable Object value) {
 		boolean gotLock = variablesLock.writeLock().tryLock();
 		if (gotLock) {
 			try {
 				// Set the variable
-				variables.setVariable(name, value);
+				variables.setVariable(path, value);
 				// ..., save the variable change
-				saveVariableChange(name, value);
+				saveVariableChange(path.name(), value);
 				// ..., and process all previously queued changes
 				processChangeQueue();
 			} finally {
@@ -616,7 +743,140 @@ public class Variables {
 			}
 		} else {
 			// Couldn't acquire variable write lock, queue the change (blocking here is a bad idea)
-			queueVariableChange(name, value);
+			queueVariableChange(path.name(), value);
+		}
+	}
+
+	/**
+	 * Converts a value to the class it should be stored as, see {@link ClassInfo#getSerializeAs()}.
+	 */
+	private static Object convertToSerializeAs(Object value) {
+		ClassInfo<?> ci = Classes.getSuperClassInfo(value.getClass());
+		Class<?> sas = ci.getSerializeAs();
+
+		if (sas != null) {
+			value = Converters.convert(value, sas);
+			assert value != null : ci + ", " + sas;
+		}
+		return value;
+	}
+
+	/**
+	 * Adds values to a list variable, each at the lowest free numerical index of the list.
+	 * For global variables, all values are added at once while holding the write lock.
+	 *
+	 * @param name the name of the list variable, ending in {@code ::*}.
+	 * @param values the values to add.
+	 * @param event if {@code local} is {@code true}, this is the event
+	 *                 the local variable resides in.
+	 * @param local if this variable is a local or global variable.
+	 */
+	public static void addToList(String name, Object[] values, @Nullable Event event, boolean local) {
+		assert name.endsWith(Variable.SEPARATOR + "*") : name;
+		if (caseInsensitiveVariables)
+			name = name.toLowerCase(Locale.ENGLISH);
+
+		Object[] converted = new Object[values.length];
+		for (int i = 0; i < values.length; i++)
+			converted[i] = convertToSerializeAs(values[i]);
+
+		if (local) {
+			assert event != null : name;
+			VariablesMap map = getLocalVariables().computeIfAbsent(event, e -> new VariablesMap());
+			map.addToList(name, converted);
+		} else if (variablesLock.writeLock().tryLock()) {
+			try {
+				// Queued changes happened before this addition, they may have filled some indices
+				processChangeQueue();
+				String[] names = variables.addToList(name, converted);
+				for (int i = 0; i < names.length; i++)
+					saveVariableChange(names[i], converted[i]);
+			} finally {
+				variablesLock.writeLock().unlock();
+			}
+		} else {
+			// Couldn't acquire variable write lock, queue the changes at the indices that are free right now
+			String prefix = name.substring(0, name.length() - 1);
+			int index = 1;
+			for (Object value : converted) {
+				while (getVariable(prefix + index, null, false) != null)
+					index++;
+				queueVariableChange(prefix + index, value);
+				index++;
+			}
+		}
+	}
+
+	/**
+	 * Locks held while changing a global variable based on its current value,
+	 * the lock of a variable is chosen by its name's hash.
+	 */
+	private static final Lock[] COMPUTE_LOCKS = new Lock[64];
+
+	static {
+		for (int i = 0; i < COMPUTE_LOCKS.length; i++)
+			COMPUTE_LOCKS[i] = new ReentrantLock();
+	}
+
+	/**
+	 * Atomically changes a variable based on its current value.
+	 * Concurrent calls of this method for the same variable are executed one after another,
+	 * so no changes are lost, e.g. when incrementing a counter from multiple threads.
+	 * <p>
+	 * The function should be fast, and must not change any variables itself.
+	 *
+	 * @param name the variable's name, which can't be a list variable.
+	 * @param function the function computing the new value from the current value,
+	 *                 {@code null} if not set. Return {@code null} to delete the variable,
+	 *                 or the current value to leave it unchanged.
+	 * @param event if {@code local} is {@code true}, this is the event
+	 *                 the local variable resides in.
+	 * @param local if this variable is a local or global variable.
+	 * @return the new value of the variable.
+	 */
+	public static @Nullable Object computeVariable(String name, UnaryOperator<@Nullable Object> function, @Nullable Event event, boolean local) {
+		assert !name.endsWith("::*") : name;
+		if (caseInsensitiveVariables)
+			name = name.toLowerCase(Locale.ENGLISH);
+
+		if (local) {
+			assert event != null : name;
+			VariablesMap map = getLocalVariables().computeIfAbsent(event, e -> new VariablesMap());
+			Object current = map.getVariable(name);
+			Object value = function.apply(current);
+			if (value != current)
+				map.setVariable(name, value != null ? convertToSerializeAs(value) : null);
+			return value;
+		}
+
+		Lock lock = COMPUTE_LOCKS[(name.hashCode() & Integer.MAX_VALUE) % COMPUTE_LOCKS.length];
+		lock.lock();
+		try {
+			if (variablesLock.writeLock().tryLock()) {
+				try {
+					// Queued changes happened before this change, apply them first
+					processChangeQueue();
+					Object current = variables.getVariable(name);
+					Object value = function.apply(current);
+					if (value != current) {
+						Object converted = value != null ? convertToSerializeAs(value) : null;
+						variables.setVariable(name, converted);
+						saveVariableChange(name, converted);
+					}
+					return value;
+				} finally {
+					variablesLock.writeLock().unlock();
+				}
+			}
+
+			// Couldn't acquire variable write lock, the current value includes queued changes
+			Object current = getVariable(name, null, false);
+			Object value = function.apply(current);
+			if (value != current)
+				queueVariableChange(name, value != null ? convertToSerializeAs(value) : null);
+			return value;
+		} finally {
+			lock.unlock();
 		}
 	}
 
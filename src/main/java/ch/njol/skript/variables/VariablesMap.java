@@ -4,11 +4,14 @@ import ch.njol.skript.lang.Variable;
 import ch.njol.util.StringUtils;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 /**
  * A map for storing variables in a sorted and efficient manner.
@@ -120,6 +123,230 @@ final class VariablesMap {
 		return 0;
 	};
 
+	/**
+	 * A branch of the {@link #treeMap}, i.e. the values of a list variable.
+	 * <p>
+	 * Keeps track of its lowest free numerical index,
+	 * so that adding to a list does not have to search for a free index every time.
+	 * Large lists can also build an index from their values to their indices,
+	 * see {@link #indicesOf(Object, boolean)}.
+	 */
+	static final class ListNode extends TreeMap<String, Object> {
+
+		/**
+		 * The minimum size of a list for it to build a value index.
+		 */
+		private static final int VALUE_INDEX_THRESHOLD = 64;
+
+		/**
+		 * All numerical indices below this index are present in this list,
+		 * except for the ones in {@link #freedIndices}.
+		 */
+		private int checkedIndex = 1;
+
+		/**
+		 * The numerical indices below {@link #checkedIndex} that have been removed from this list.
+		 */
+		private @Nullable TreeSet<Integer> freedIndices;
+
+		/**
+		 * The amount of sub-lists in this list.
+		 */
+		private int sublists;
+
+		/**
+		 * The indices of this list by their value's {@link #valueKey(Object, boolean) key},
+		 * or {@code null} if the index has not been built or has been invalidated.
+		 */
+		private @Nullable Map<Object, TreeSet<String>> valueIndex;
+		private @Nullable Class<?> valueIndexType;
+		private boolean valueIndexCaseSensitive;
+
+		ListNode() {
+			super(VARIABLE_NAME_COMPARATOR);
+		}
+
+		/**
+		 * @return the lowest positive numerical index that is not present in this list.
+		 */
+		int nextFreeIndex() {
+			if (freedIndices != null && !freedIndices.isEmpty())
+				return freedIndices.first();
+			while (containsKey(String.valueOf(checkedIndex)))
+				checkedIndex++;
+			return checkedIndex;
+		}
+
+		/**
+		 * Finds the indices of this list whose values are equal to the given value,
+		 * without comparing the value to every value in the list.
+		 * <p>
+		 * This is only possible for large lists that only contain values of a single type,
+		 * for which equality can be determined with {@link Object#equals(Object)} and {@link Object#hashCode()}
+		 * (after normalising the case of strings, if not case-sensitive).
+		 * In all other cases, the list has to be searched by comparing values.
+		 * <p>
+		 * Do not modify the returned set!
+		 *
+		 * @param value the value to find.
+		 * @param caseSensitive whether strings are compared case-sensitively.
+		 * @return the matching indices, or {@code null} if they can't be found without comparing values.
+		 */
+		synchronized @Nullable SortedSet<String> indicesOf(Object value, boolean caseSensitive) {
+			if (size() < VALUE_INDEX_THRESHOLD || sublists > 0)
+				return null;
+			Object key = valueKey(value, caseSensitive);
+			if (key == null)
+				return null;
+			if ((valueIndex == null || valueIndexCaseSensitive != caseSensitive) && !buildValueIndex(caseSensitive))
+				return null;
+			assert valueIndex != null;
+			if (key.getClass() != valueIndexType)
+				return null;
+			SortedSet<String> indices = valueIndex.get(key);
+			return indices != null ? indices : Collections.emptySortedSet();
+		}
+
+		/**
+		 * @return whether the index could be built, i.e. whether all values in the list have keys of the same type.
+		 */
+		private boolean buildValueIndex(boolean caseSensitive) {
+			valueIndex = new HashMap<>();
+			valueIndexType = null;
+			valueIndexCaseSensitive = caseSensitive;
+			for (Entry<String, Object> entry : entrySet()) {
+				if (entry.getKey() != null)
+					addToValueIndex(entry.getKey(), entry.getValue());
+				if (valueIndex == null)
+					return false;
+			}
+			return true;
+		}
+
+		private void addToValueIndex(String index, Object value) {
+			assert valueIndex != null;
+			Object key = valueKey(value, valueIndexCaseSensitive);
+			if (key == null || (valueIndexType != null && key.getClass() != valueIndexType)) {
+				valueIndex = null;
+				return;
+			}
+			valueIndexType = key.getClass();
+			valueIndex.computeIfAbsent(key, k -> new TreeSet<>(VARIABLE_NAME_COMPARATOR)).add(index);
+		}
+
+		private void removeFromValueIndex(String index, Object value) {
+			assert valueIndex != null;
+			Object key = valueKey(value, valueIndexCaseSensitive);
+			TreeSet<String> indices = valueIndex.get(key);
+			if (indices != null) {
+				indices.remove(index);
+				if (indices.isEmpty())
+					valueIndex.remove(key);
+			}
+		}
+
+		/**
+		 * Gets the key of a value in the value index,
+		 * two values are equal according to their comparator if and only if their keys are equal.
+		 *
+		 * @return the key, or {@code null} if values of this type can't be indexed.
+		 */
+		private static @Nullable Object valueKey(Object value, boolean caseSensitive) {
+			if (value instanceof String string) {
+				if (caseSensitive)
+					return string;
+				// the same normalisation as String#equalsIgnoreCase
+				StringBuilder builder = new StringBuilder(string.length());
+				string.codePoints().forEach(codePoint -> builder.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+				return builder.toString();
+			}
+			// numbers are compared with an epsilon unless both are longs, integers are exact within it
+			if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+				return ((Number) value).longValue();
+			return null;
+		}
+
+		@Override
+		public Object put(String key, Object value) {
+			Object previous = super.put(key, value);
+			if (key != null) {
+				if (previous == null && freedIndices != null) {
+					int index = parseIndex(key);
+					if (index != -1 && index < checkedIndex)
+						freedIndices.remove(index);
+				}
+				if (previous instanceof TreeMap)
+					sublists--;
+				if (value instanceof TreeMap)
+					sublists++;
+				if (valueIndex != null && previous != null)
+					removeFromValueIndex(key, previous);
+				if (valueIndex != null)
+					addToValueIndex(key, value);
+			}
+			return previous;
+		}
+
+		@Override
+		public Object remove(Object key) {
+			Object previous = super.remove(key);
+			if (previous != null && key instanceof String string) {
+				int index = parseIndex(string);
+				if (index != -1 && index < checkedIndex) {
+					if (freedIndices == null)
+						freedIndices = new TreeSet<>();
+					freedIndices.add(index);
+				}
+				if (previous instanceof TreeMap)
+					sublists--;
+				if (valueIndex != null)
+					removeFromValueIndex(string, previous);
+			}
+			return previous;
+		}
+
+		@Override
+		public void putAll(Map<? extends String, ?> map) {
+			super.putAll(map);
+			// may bypass put, start tracking from scratch
+			checkedIndex = 1;
+			freedIndices = null;
+			valueIndex = null;
+			sublists = 0;
+			for (Entry<String, Object> entry : entrySet()) {
+				if (entry.getKey() != null && entry.getValue() instanceof TreeMap)
+					sublists++;
+			}
+		}
+
+		@Override
+		public void clear() {
+			super.clear();
+			checkedIndex = 1;
+			freedIndices = null;
+			valueIndex = null;
+			sublists = 0;
+		}
+
+		/**
+		 * @return the index as a number if it is written the same way as {@link #nextFreeIndex()} would,
+		 * otherwise {@code -1}.
+		 */
+		private static int parseIndex(@Nullable String key) {
+			if (key == null || key.isEmpty() || key.length() > 9 || key.charAt(0) == '0')
+				return -1;
+			int index = 0;
+			for (int i = 0; i < key.length(); i++) {
+				char c = key.charAt(i);
+				if (c < '0' || c > '9')
+					return -1;
+				index = index * 10 + (c - '0');
+			}
+			return index;
+		}
+
+	}
+
 	/**
 	 * The map that stores all non-list variables.
 	 */
@@ -139,15 +366,34 @@ final class VariablesMap {
 	 * {@code Map<String, Object>} for a list variable,
 	 * or {@code null} if the variable is not set.
 	 */
-	@SuppressWarnings("unchecked")
 	@Nullable
 	Object getVariable(String name) {
 		if (!name.endsWith("*")) {
 			// Not a list variable, quick access from the hash map
 			return hashMap.get(name);
+		}
+		return getVariable(VariablePath.of(name));
+	}
+
+	/**
+	 * Returns the internal value of the requested variable.
+	 * <p>
+	 * <b>Do not modify the returned value!</b>
+	 *
+	 * @param path the path of the variable, possibly a list variable.
+	 * @return an {@link Object} for a normal variable or a
+	 * {@code Map<String, Object>} for a list variable,
+	 * or {@code null} if the variable is not set.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	Object getVariable(VariablePath path) {
+		if (!path.name().endsWith("*")) {
+			// Not a list variable, quick access from the hash map
+			return hashMap.get(path.name());
 		} else {
 			// List variable, search the tree branches
-			String[] split = Variables.splitVariableName(name);
+			String[] split = path.parts();
 			Map<String, Object> parent = treeMap;
 
 			// Iterate over the parts of the variable name
@@ -187,8 +433,22 @@ final class VariablesMap {
 	 * @param name the variable name.
 	 * @param value the variable value, {@code null} to delete the variable.
 	 */
-	@SuppressWarnings("unchecked")
 	void setVariable(String name, @Nullable Object value) {
+		setVariable(VariablePath.of(name), value);
+	}
+
+	/**
+	 * Sets the given variable to the given value.
+	 * <p>
+	 * This method accepts list variables,
+	 * but these may only be set to {@code null}.
+	 *
+	 * @param path the variable's path.
+	 * @param value the variable value, {@code null} to delete the variable.
+	 */
+	@SuppressWarnings("unchecked")
+	void setVariable(VariablePath path, @Nullable Object value) {
+		String name = path.name();
 		// First update the hash map easily
 		if (!name.endsWith("*")) {
 			if (value == null)
@@ -198,7 +458,7 @@ final class VariablesMap {
 		}
 
 		// Then update the tree map by going down the branches
-		String[] split = Variables.splitVariableName(name);
+		String[] split = path.parts();
 		TreeMap<String, Object> parent = treeMap;
 
 		// Iterate over the parts of the variable name
@@ -216,7 +476,7 @@ final class VariablesMap {
 					break;
 				} else if (value != null) {
 					// Create child node, add it to parent and continue iteration
-					childNode = new TreeMap<>(VARIABLE_NAME_COMPARATOR);
+					childNode = new ListNode();
 
 					parent.put(childNodeName, childNode);
 					parent = (TreeMap<String, Object>) childNode;
@@ -269,7 +529,7 @@ final class VariablesMap {
 					break;
 				} else if (value != null) {
 					// Need to continue iteration, create new child node and put old value in it
-					TreeMap<String, Object> newChildNodeMap = new TreeMap<>(VARIABLE_NAME_COMPARATOR);
+					TreeMap<String, Object> newChildNodeMap = new ListNode();
 					newChildNodeMap.put(null, childNode);
 
 					// Add new child node to parent
@@ -282,6 +542,48 @@ final class VariablesMap {
 		}
 	}
 
+	/**
+	 * Adds the given values to a list variable, each at the lowest free numerical index.
+	 *
+	 * @param name the name of the list variable, ending in {@code ::*}.
+	 * @param values the values to add.
+	 * @return the names the values have been set at, in the same order as the values.
+	 */
+	String[] addToList(String name, Object[] values) {
+		assert name.endsWith(Variable.SEPARATOR + "*") : name;
+		String prefix = name.substring(0, name.length() - 1);
+		String[] names = new String[values.length];
+		Object list = getVariable(name);
+		for (int i = 0; i < values.length; i++) {
+			int index = list instanceof ListNode listNode ? listNode.nextFreeIndex() : 1;
+			names[i] = prefix + index;
+			setVariable(names[i], values[i]);
+			if (!(list instanceof ListNode))
+				list = getVariable(name);
+		}
+		return names;
+	}
+
+	/**
+	 * Finds the indices of a list variable whose values are equal to the given value,
+	 * see {@link ListNode#indicesOf(Object, boolean)}.
+	 * <p>
+	 * Do not modify the returned set!
+	 *
+	 * @param name the name of the list variable, ending in {@code ::*}.
+	 * @param value the value to find.
+	 * @param caseSensitive whether strings are compared case-sensitively.
+	 * @return the matching indices, or {@code null} if they can't be found without comparing values.
+	 */
+	@Nullable SortedSet<String> getIndicesOf(String name, Object value, boolean caseSensitive) {
+		Object list = getVariable(name);
+		if (list == null)
+			return Collections.emptySortedSet();
+		if (!(list instanceof ListNode listNode))
+			return null;
+		return listNode.indicesOf(value, caseSensitive);
+	}
+
 	/**
 	 * Deletes all indices of a list variable from the {@link #hashMap}.
 	 *
@@ -334,7 +636,7 @@ final class VariablesMap {
 	 */
 	@SuppressWarnings("unchecked")
 	private static TreeMap<String, Object> copyTreeMap(TreeMap<String, Object> original) {
-		TreeMap<String, Object> copy = new TreeMap<>(VARIABLE_NAME_COMPARATOR);
+		TreeMap<String, Object> copy = new ListNode();
 
 		for (Entry<String, Object> child : original.entrySet()) {
 			String key = child.getKey();
@@ -57,5 +57,10 @@ public class EvtBreed extends SkriptEvent {
 	public String toString(@Nullable Event event, boolean debug) {
 		return "on breeding" + (entitiesLiteral == null ? "" : " of " + entitiesLiteral);
 	}
+
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
 	
 }
@@ -68,4 +68,9 @@ public class EvtBucketEntity extends SkriptEvent {
 				" of " + StringUtils.join(List.of(entities), ", ", " and "));
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -95,4 +95,9 @@ public class EvtFish extends SkriptEvent {
 		return state.toString;
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
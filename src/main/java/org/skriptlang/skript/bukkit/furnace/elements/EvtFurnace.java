@@ -112,4 +112,9 @@ public class EvtFurnace extends SkriptEvent {
 		return result + " of " + Classes.toString(types);
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -121,4 +121,9 @@ public class EvtPlayerInput extends SkriptEvent {
 
 	}
 
+	@Override
+	public boolean isReusable() {
+		return true;
+	}
+
 }
@@ -27,7 +27,7 @@ import java.util.function.Supplier;
  */
 public final class Script implements Validated, AnyNamed {
 
-	private final Config config;
+	private Config config;
 
 	private final List<Structure> structures;
 
@@ -50,6 +50,15 @@ public final class Script implements Validated, AnyNamed {
 		return config;
 	}
 
+	/**
+	 * Replaces the Config of this Script, which is used when only the changed Structures of a Script are reloaded.
+	 * @param config The Config containing the new contents of this Script.
+	 */
+	@ApiStatus.Internal
+	public void setConfig(Config config) {
+		this.config = config;
+	}
+
 	/**
 	 * @return An unmodifiable list of all Structures within this Script.
 	 */
@@ -25,6 +25,7 @@ import org.skriptlang.skript.lang.entry.EntryValidator;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.function.Supplier;
 
 /**
  * Structures are the root elements in every script. They are essentially the "headers".
@@ -161,9 +162,30 @@ public abstract class Structure implements SyntaxElement, Debuggable {
 	 */
 	public void postUnload() { }
 
+	/**
+	 * Whether this Structure may be kept loaded when its script is reloaded and the source of this Structure
+	 *  has not changed. Structures that are expected to perform actions whenever their script is (re)loaded,
+	 *  or whose state depends on other parts of their script, should not be reused.
+	 * @return Whether this Structure may be reused across reloads. By default, this is false.
+	 * @see ch.njol.skript.ScriptLoader#reloadScripts(java.util.Set, ch.njol.util.OpenCloseable)
+	 */
+	public boolean isReusable() {
+		return false;
+	}
+
+	/**
+	 * Called instead of loading this Structure again when its script is reloaded and its source has not changed.
+	 * The source may have moved within its script, so any data depending on its position,
+	 *  such as the line numbers of triggers, should be updated here.
+	 * @param node The node this Structure's source is now located at.
+	 * @see #isReusable()
+	 */
+	public void reuse(Node node) { }
+
 	/**
 	 * The priority of a Structure determines the order in which it should be loaded.
 	 * For more information, see the javadoc of {@link Priority}.
+	 * When parallel loading is enabled, Structures sharing a priority may be {@link #load() loaded} concurrently.
 	 * @return The priority of this Structure. By default, this is {@link Structure#DEFAULT_PRIORITY}.
 	 */
 	public Priority getPriority() {
@@ -185,8 +207,24 @@ public abstract class Structure implements SyntaxElement, Debuggable {
 		return parse(expr, node, defaultError, Skript.getStructures().iterator());
 	}
 
+	/**
+	 * Like {@link #parse(String, Node, String)}, but only creates the default error if it is printed.
+	 */
+	@Nullable
+	public static Structure parse(String expr, Node node, Supplier<String> defaultError) {
+		return parse(expr, node, defaultError, Skript.getStructures().iterator());
+	}
+
 	@Nullable
 	public static Structure parse(String expr, Node node, @Nullable String defaultError, Iterator<? extends StructureInfo<? extends Structure>> iterator) {
+		return parse(expr, node, defaultError == null ? null : () -> defaultError, iterator);
+	}
+
+	/**
+	 * Like {@link #parse(String, Node, String, Iterator)}, but only creates the default error if it is printed.
+	 */
+	@Nullable
+	public static Structure parse(String expr, Node node, @Nullable Supplier<String> defaultError, Iterator<? extends StructureInfo<? extends Structure>> iterator) {
 		if (!(node instanceof SimpleNode) && !(node instanceof SectionNode))
 			throw new IllegalArgumentException("only simple or section nodes may be parsed as a structure");
 		ParserInstance.get().getData(StructureData.class).node = node;
@@ -7,6 +7,8 @@ import org.skriptlang.skript.log.runtime.ErrorSource.Location;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Stores the accumulated runtime errors over a span of time, then prints them.
@@ -38,9 +40,13 @@ public final class Frame {
 
 	private final FrameLimit limits;
 
-	private int printed;
-	private final Map<Location, Integer> lineTotals;
-	private final Map<Location, Integer> lineSkipped;
+	/**
+	 * The line total at which a line can no longer print or be put in timeout during a frame.
+	 */
+	private final int silenceThreshold;
+
+	private final AtomicInteger printed = new AtomicInteger();
+	private volatile Map<Location, LineCounter> lineCounters;
 	private final Map<Location, Integer> timeouts;
 
 	/**
@@ -49,8 +55,8 @@ public final class Frame {
 	 */
 	public Frame(FrameLimit limits) {
 		this.limits = limits;
-		lineTotals = new ConcurrentHashMap<>();
-		lineSkipped = new ConcurrentHashMap<>();
+		silenceThreshold = Math.max(limits.lineLimit + 1, limits.lineTimeoutLimit);
+		lineCounters = new ConcurrentHashMap<>();
 		timeouts = new ConcurrentHashMap<>();
 	}
 
@@ -61,35 +67,55 @@ public final class Frame {
 	 */
 	public boolean add(@NotNull RuntimeError error) {
 		Location location = error.source().location();
-		// increment counter
-		int lineTotal = lineTotals.compute(location, (key, count) -> (count == null ? 1 : count + 1));
+		Map<Location, LineCounter> lineCounters = this.lineCounters;
+		LineCounter counter = lineCounters.get(location);
+		if (counter == null)
+			counter = lineCounters.computeIfAbsent(location, key -> new LineCounter(timeouts.containsKey(key)));
 
-		// don't print if in timeout
-		if (timeouts.containsKey(location)) {
-			lineSkipped.compute(location, (key, count) -> (count == null ? 1 : count + 1));
+		// once a line can't print anymore this frame, only count the error
+		if (counter.silenced) {
+			counter.silencedTotal.increment();
+			counter.skipped.increment();
 			return false;
 		}
 
+		// increment counter
+		int lineTotal = counter.total.incrementAndGet();
+		if (lineTotal >= silenceThreshold)
+			counter.silenced = true;
+
 		// decide whether to print
-		if (printed < limits.totalLimit && lineTotal <= limits.lineLimit) {
-			printed++;
+		if (lineTotal <= limits.lineLimit && tryPrint())
 			return true;
-		} else {
-			lineSkipped.compute(location, (key, count) -> (count == null ? 1 : count + 1));
-			if (lineTotal == limits.lineTimeoutLimit) {
-				timeouts.put(location, limits.timeoutDuration);
-			}
-			return false;
+
+		counter.skipped.increment();
+		if (lineTotal == limits.lineTimeoutLimit) {
+			timeouts.put(location, limits.timeoutDuration);
+			counter.silenced = true;
 		}
+		return false;
+	}
+
+	/**
+	 * Reserves one of the prints of this frame.
+	 * @return Whether the total limit of this frame allowed another print.
+	 */
+	private boolean tryPrint() {
+		int current;
+		do {
+			current = printed.get();
+			if (current >= limits.totalLimit)
+				return false;
+		} while (!printed.compareAndSet(current, current + 1));
+		return true;
 	}
 
 	/**
 	 * Advances the frame to the next frame, clearing all stored totals and decrementing timeout counters.
 	 */
 	public void nextFrame() {
-		printed = 0;
-		lineTotals.clear();
-		lineSkipped.clear();
+		printed.set(0);
+		lineCounters = new ConcurrentHashMap<>();
 		for (Iterator<Map.Entry<Location, Integer>> it = timeouts.entrySet().iterator(); it.hasNext(); ) {
 			Map.Entry<Location, Integer> entry = it.next();
 			if (entry.getValue() > 0) {
@@ -102,7 +128,7 @@ public final class Frame {
 
 	/**
 	 * Gets the output data for a frame.
-	 * Returned data contains unmodifiable views of frame data, which is not guaranteed to stay valid.
+	 * Returned data contains unmodifiable snapshots of the frame data at the time of calling.
 	 * @return The current output data of this frame.
 	 */
 	@Contract(" -> new")
@@ -114,6 +140,16 @@ public final class Frame {
 			}
 		}
 
+		Map<Location, Integer> lineTotals = new HashMap<>();
+		Map<Location, Integer> lineSkipped = new HashMap<>();
+		for (Map.Entry<Location, LineCounter> entry : lineCounters.entrySet()) {
+			LineCounter counter = entry.getValue();
+			lineTotals.put(entry.getKey(), counter.total.get() + counter.silencedTotal.intValue());
+			int skipped = counter.skipped.intValue();
+			if (skipped > 0)
+				lineSkipped.put(entry.getKey(), skipped);
+		}
+
 		return new FrameOutput(
 				Collections.unmodifiableMap(lineTotals),
 				Collections.unmodifiableMap(lineSkipped),
@@ -121,4 +157,22 @@ public final class Frame {
 				limits);
 	}
 
+	/**
+	 * The counts of a single line for the current frame.
+	 * Errors are counted exactly while they may still be printed or cause a timeout,
+	 * after which the line is silenced and further errors only go to contention-free adders.
+	 */
+	private static final class LineCounter {
+
+		private final AtomicInteger total = new AtomicInteger();
+		private final LongAdder silencedTotal = new LongAdder();
+		private final LongAdder skipped = new LongAdder();
+		private volatile boolean silenced;
+
+		private LineCounter(boolean timedOut) {
+			silenced = timedOut;
+		}
+
+	}
+
 }
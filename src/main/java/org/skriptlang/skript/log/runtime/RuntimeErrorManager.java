@@ -9,8 +9,8 @@ import org.jetbrains.annotations.NotNull;
 import org.skriptlang.skript.log.runtime.Frame.FrameLimit;
 
 import java.io.Closeable;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 
 /**
@@ -69,7 +69,7 @@ public class RuntimeErrorManager implements Closeable {
 	private final Frame errorFrame, warningFrame;
 	private final Task task;
 
-	private final List<RuntimeErrorConsumer> consumers = new ArrayList<>();
+	private final List<RuntimeErrorConsumer> consumers = new CopyOnWriteArrayList<>();
 
 	/**
 	 * Creates a new error manager, which also creates its own frames.
@@ -100,7 +100,7 @@ public class RuntimeErrorManager implements Closeable {
 	 * @param error The error to emit.
 	 */
 	public void error(@NotNull RuntimeError error) {
-		// print if < limit
+		// print if < limit, errors of silenced lines are only counted without locking
 		if ((error.level() == Level.SEVERE && errorFrame.add(error))
 			|| (error.level() == Level.WARNING && warningFrame.add(error))) {
 			consumers.forEach((consumer -> consumer.printError(error)));
@@ -127,9 +127,7 @@ public class RuntimeErrorManager implements Closeable {
 	 * @param consumer The consumer to add.
 	 */
 	public void addConsumer(RuntimeErrorConsumer consumer) {
-		synchronized (consumers) {
-			consumers.add(consumer);
-		}
+		consumers.add(consumer);
 	}
 
 	/**
@@ -137,9 +135,7 @@ public class RuntimeErrorManager implements Closeable {
 	 * @param consumer The consumer to remove.
 	 */
 	public void removeConsumer(RuntimeErrorConsumer consumer) {
-		synchronized (consumers) {
-			consumers.remove(consumer);
-		}
+		consumers.remove(consumer);
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 package org.skriptlang.skript.registration;
 
 import com.google.common.collect.ImmutableSet;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Comparator;
@@ -24,18 +25,36 @@ final class SyntaxRegister<I extends SyntaxInfo<?>> {
 
 	final Set<I> syntaxes = new ConcurrentSkipListSet<>(SET_COMPARATOR);
 
+	/**
+	 * An immutable copy of {@link #syntaxes}, which is only copied again once the syntaxes change.
+	 * As a new copy is created for every change, callers may rely on the identity of the copy to detect changes.
+	 */
+	private volatile @Nullable Collection<I> snapshot;
+
 	public Collection<I> syntaxes() {
-		synchronized (syntaxes) {
-			return ImmutableSet.copyOf(syntaxes);
+		Collection<I> snapshot = this.snapshot;
+		if (snapshot == null) {
+			synchronized (syntaxes) {
+				snapshot = this.snapshot;
+				if (snapshot == null)
+					this.snapshot = snapshot = ImmutableSet.copyOf(syntaxes);
+			}
 		}
+		return snapshot;
 	}
 
 	public void add(I info) {
-		syntaxes.add(info);
+		synchronized (syntaxes) {
+			syntaxes.add(info);
+			snapshot = null;
+		}
 	}
 
 	public void remove(I info) {
-		syntaxes.remove(info);
+		synchronized (syntaxes) {
+			syntaxes.remove(info);
+			snapshot = null;
+		}
 	}
 
 }
@@ -0,0 +1,84 @@
+package org.skriptlang.skript.log.runtime;
+
+import org.junit.Test;
+import org.skriptlang.skript.log.runtime.ErrorSource.Location;
+import org.skriptlang.skript.log.runtime.Frame.FrameLimit;
+import org.skriptlang.skript.log.runtime.Frame.FrameOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import static org.junit.Assert.*;
+
+public class FrameTest {
+
+	private static RuntimeError error(int line) {
+		return new RuntimeError(Level.SEVERE, new ErrorSource("effect", "test", line, "test", "test.sk"), "error", null);
+	}
+
+	@Test
+	public void testLimits() {
+		Frame frame = new Frame(new FrameLimit(3, 2, 4, 1));
+
+		assertTrue(frame.add(error(1)));
+		assertTrue(frame.add(error(1)));
+		assertFalse(frame.add(error(1))); // over line limit
+		assertTrue(frame.add(error(2)));
+		assertFalse(frame.add(error(2))); // over total limit
+		assertFalse(frame.add(error(1))); // timed out
+		assertFalse(frame.add(error(1)));
+
+		FrameOutput output = frame.getFrameOutput();
+		Location line1 = new Location("test.sk", 1);
+		Location line2 = new Location("test.sk", 2);
+		assertEquals(5, (int) output.totalErrors().get(line1));
+		assertEquals(3, (int) output.skippedErrors().get(line1));
+		assertEquals(2, (int) output.totalErrors().get(line2));
+		assertEquals(1, (int) output.skippedErrors().get(line2));
+		assertTrue(output.newTimeouts().contains(line1));
+		assertFalse(output.newTimeouts().contains(line2));
+
+		// timeout lasts for the next frame
+		frame.nextFrame();
+		assertFalse(frame.add(error(1)));
+		assertTrue(frame.add(error(2)));
+		assertTrue(frame.getFrameOutput().newTimeouts().isEmpty());
+
+		frame.nextFrame();
+		frame.nextFrame();
+		assertTrue(frame.add(error(1)));
+	}
+
+	@Test
+	public void testConcurrentAdd() throws InterruptedException {
+		Frame frame = new Frame(new FrameLimit(50, 10, 20, 1));
+		AtomicInteger printed = new AtomicInteger();
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			Thread thread = new Thread(() -> {
+				for (int j = 0; j < 10_000; j++) {
+					if (frame.add(error(j % 8)))
+						printed.incrementAndGet();
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+
+		FrameOutput output = frame.getFrameOutput();
+		assertEquals(50, printed.get());
+		int total = 0, skipped = 0;
+		for (int count : output.totalErrors().values())
+			total += count;
+		for (int count : output.skippedErrors().values())
+			skipped += count;
+		assertEquals(40_000, total);
+		assertEquals(40_000 - 50, skipped);
+		assertEquals(8, output.newTimeouts().size());
+	}
+
+}
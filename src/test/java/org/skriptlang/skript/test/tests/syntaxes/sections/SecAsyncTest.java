@@ -0,0 +1,32 @@
+package org.skriptlang.skript.test.tests.syntaxes.sections;
+
+import ch.njol.skript.lang.function.Function;
+import ch.njol.skript.lang.function.Functions;
+import ch.njol.skript.test.runner.SkriptJUnitTest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs an async section containing sync sections.
+ * The script under skript/junit/SecAsync.sk checks that the local variables are carried
+ * from the main thread into the async section, into its sync sections and back.
+ */
+public class SecAsyncTest extends SkriptJUnitTest {
+
+	@Before
+	public void setup() {
+		// allows the async section and the code after it to run before the server shuts down
+		setShutdownDelay(20);
+	}
+
+	@Test
+	public void testAsyncSection() {
+		Function<?> function = Functions.getGlobalFunction("async_section_test");
+		if (function == null)
+			Assert.fail("Async section test function is null");
+
+		function.execute(new Object[0][]);
+	}
+
+}
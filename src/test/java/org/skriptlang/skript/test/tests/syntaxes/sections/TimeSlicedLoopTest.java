@@ -0,0 +1,47 @@
+package org.skriptlang.skript.test.tests.syntaxes.sections;
+
+import ch.njol.skript.lang.LoopSection;
+import ch.njol.skript.lang.function.Function;
+import ch.njol.skript.lang.function.Functions;
+import ch.njol.skript.test.runner.SkriptJUnitTest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs a time sliced loop which takes longer than the budget of a tick.
+ * The script under skript/junit/TimeSlicedLoop.sk checks that the loop and the code after it
+ * continue in later ticks with the same state, and that a loop waiting in its body doesn't skip further ticks.
+ */
+public class TimeSlicedLoopTest extends SkriptJUnitTest {
+
+	@Before
+	public void setup() {
+		// allows the loop to continue in later ticks before the server shuts down
+		setShutdownDelay(20);
+	}
+
+	@Test
+	public void testTimeSlicedLoop() {
+		Function<?> function = Functions.getGlobalFunction("time_sliced_loop_test");
+		if (function == null)
+			Assert.fail("Time sliced loop test function is null");
+
+		function.execute(new Object[0][]);
+
+		long slices = LoopSection.getTimeSliceStats().values().stream()
+			.mapToLong(LoopSection.TimeSliceStats::getSlices)
+			.sum();
+		Assert.assertTrue("Time sliced loop did not continue in a later tick", slices > 0);
+	}
+
+	@Test
+	public void testTimeSlicedLoopWithDelay() {
+		Function<?> function = Functions.getGlobalFunction("time_sliced_loop_wait_test");
+		if (function == null)
+			Assert.fail("Time sliced loop wait test function is null");
+
+		function.execute(new Object[0][]);
+	}
+
+}
@@ -0,0 +1,68 @@
+package org.skriptlang.skript.test.tests.variables;
+
+import ch.njol.skript.lang.Effect;
+import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.lang.util.ContextlessEvent;
+import ch.njol.skript.test.runner.SkriptJUnitTest;
+import ch.njol.skript.variables.Variables;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ConcurrentVariableChangeTest extends SkriptJUnitTest {
+
+	private static final String VARIABLE = "junit::concurrent::counter";
+	private static final int THREADS = 8;
+	private static final int INCREMENTS = 1000;
+
+	private Effect addEffect;
+
+	@Before
+	public void setup() {
+		addEffect = Effect.parse("add 1 to {" + VARIABLE + "}", null);
+		Variables.setVariable(VARIABLE, null, null, false);
+	}
+
+	@Test
+	public void testConcurrentAdd() throws Exception {
+		if (addEffect == null)
+			Assert.fail("Add effect is null");
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int j = 0; j < INCREMENTS; j++)
+						TriggerItem.walk(addEffect, ContextlessEvent.get());
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures)
+				future.get();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		Object value = Variables.getVariable(VARIABLE, null, false);
+		Assert.assertTrue("Counter is not a number: " + value, value instanceof Number);
+		Assert.assertEquals("Concurrent additions were lost", THREADS * INCREMENTS, ((Number) value).longValue());
+	}
+
+	@After
+	public void cleanup() {
+		Variables.setVariable(VARIABLE, null, null, false);
+	}
+
+}
@@ -0,0 +1,53 @@
+package org.skriptlang.skript.test.tests.variables;
+
+import ch.njol.skript.lang.Effect;
+import ch.njol.skript.lang.TriggerItem;
+import ch.njol.skript.lang.util.ContextlessEvent;
+import ch.njol.skript.test.runner.SkriptJUnitTest;
+import ch.njol.skript.variables.Variables;
+import org.bukkit.Location;
+import org.bukkit.event.Event;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Objects;
+
+public class VariableCloningTest extends SkriptJUnitTest {
+
+	private void run(String unparsedEffect, Event event) {
+		Effect effect = Effect.parse(unparsedEffect, "Can't understand this effect: " + unparsedEffect);
+		if (effect == null)
+			throw new IllegalStateException();
+		TriggerItem.walk(effect, event);
+	}
+
+	private Object get(String name, Event event) {
+		return Objects.requireNonNull(Variables.getVariable(name, event, true));
+	}
+
+	@Test
+	public void testImmutableValuesNotCloned() {
+		Event event = ContextlessEvent.get();
+		run("set {_numbers::*} to 1.5, 2.5 and 3.5", event);
+		run("set {_copies::*} to {_numbers::*}", event);
+		for (int i = 1; i <= 3; i++)
+			Assert.assertSame(get("numbers::" + i, event), get("copies::" + i, event));
+
+		run("set {_text} to \"text\"", event);
+		run("set {_text copy} to {_text}", event);
+		Assert.assertSame(get("text", event), get("text copy", event));
+	}
+
+	@Test
+	public void testMutableValuesCloned() {
+		Event event = ContextlessEvent.get();
+		run("set {_location} to location(0, 0, 0, world \"world\")", event);
+		run("set {_location copy} to {_location}", event);
+		Location location = (Location) get("location", event);
+		Location copy = (Location) get("location copy", event);
+		Assert.assertNotSame(location, copy);
+		copy.setX(1);
+		Assert.assertEquals(0, location.getX(), 0);
+	}
+
+}